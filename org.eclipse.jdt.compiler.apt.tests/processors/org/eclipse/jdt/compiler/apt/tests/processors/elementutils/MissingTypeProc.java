@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2024 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.compiler.apt.tests.processors.elementutils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Set;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+
+import org.eclipse.jdt.compiler.apt.tests.processors.base.BaseProcessor;
+
+/**
+ * A processor that looks up a type before generating it, to check that Elements.getTypeElement()
+ * does not keep answering null for it once it exists. To enable this processor, add
+ * -Aorg.eclipse.jdt.compiler.apt.tests.processors.elementutils.MissingTypeProc to the command line.
+ */
+@SupportedAnnotationTypes("*")
+@SupportedSourceVersion(SourceVersion.RELEASE_6)
+public class MissingTypeProc extends BaseProcessor
+{
+	private static final String GENERATED_TYPE = "targets.missingtype.Generated";
+
+	private int _round;
+
+	// Always return false from this processor, because it supports "*".
+	// The return value does not signify success or failure!
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		if (roundEnv.processingOver()) {
+			// We're not interested in the postprocessing round.
+			return false;
+		}
+		if (!processingEnv.getOptions().containsKey(this.getClass().getName())) {
+			// Disable this processor unless we are intentionally performing the test.
+			return false;
+		}
+		switch (++_round) {
+			case 1:
+				reportError(GENERATED_TYPE + " was not looked up in the round after it was generated");
+				if (_elementUtils.getTypeElement(GENERATED_TYPE) != null) {
+					reportError(GENERATED_TYPE + " found before it was generated");
+					return false;
+				}
+				if (_elementUtils.getTypeElement(GENERATED_TYPE) != null) {
+					reportError(GENERATED_TYPE + " found before it was generated, when looked up again");
+					return false;
+				}
+				if (!generateClassFile()) {
+					return false;
+				}
+				if (_elementUtils.getTypeElement(GENERATED_TYPE) != null) {
+					reportError(GENERATED_TYPE + " found before it was generated, once a class file was generated");
+					return false;
+				}
+				if (_elementUtils.getTypeElement(this.getClass().getName()) == null) {
+					reportError(this.getClass().getName() + " not found once its class file was generated");
+					return false;
+				}
+				generateSourceFile();
+				break;
+			case 2:
+				if (_elementUtils.getTypeElement(GENERATED_TYPE) == null) {
+					reportError(GENERATED_TYPE + " not found in the round after it was generated");
+					return false;
+				}
+				reportSuccess();
+				break;
+		}
+		return false;
+	}
+
+	/*
+	 * Generate the class file of this processor, which is on the class path, so that the filer
+	 * hands it over to the compiler as a new class file.
+	 */
+	private boolean generateClassFile() {
+		String name = this.getClass().getName();
+		try (InputStream in = this.getClass().getClassLoader().getResourceAsStream(name.replace('.', '/') + ".class")) {
+			if (in == null) {
+				reportError("Class file of " + name + " not found");
+				return false;
+			}
+			try (OutputStream out = processingEnv.getFiler().createClassFile(name).openOutputStream()) {
+				in.transferTo(out);
+			}
+		} catch (IOException e) {
+			reportError("Cannot generate the class file of " + name + ": " + e.getLocalizedMessage());
+			return false;
+		}
+		return true;
+	}
+
+	private void generateSourceFile() {
+		try (Writer w = processingEnv.getFiler().createSourceFile(GENERATED_TYPE).openWriter()) {
+			w.write("package targets.missingtype;\npublic class Generated {\n}\n");
+		} catch (IOException e) {
+			reportError("Cannot generate " + GENERATED_TYPE + ": " + e.getLocalizedMessage());
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2011 BEA Systems, Inc.
+ * Copyright (c) 2006, 2024 BEA Systems, Inc.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,9 +16,12 @@ package org.eclipse.jdt.compiler.apt.tests;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.tools.Diagnostic;
 import javax.tools.JavaCompiler;
@@ -51,7 +54,8 @@ public class BatchDispatchTests extends TestCase {
 		"-proc:none",
 		"-proc:only",
 		"-XprintProcessorInfo",
-		"-XprintRounds"
+		"-XprintRounds",
+		"-XprintProcessorTime"
 	};
 
 
@@ -180,6 +184,38 @@ public class BatchDispatchTests extends TestCase {
  				diagnostics.get(Diagnostic.Kind.WARNING, Diagnostic.Kind.MANDATORY_WARNING).size());
 	}
 
+	/**
+	 * Verify that -XprintProcessorTime reports each call of a processor, and the total of each processor
+	 * in the last round.
+	 */
+	public void testPrintProcessorTimeWithEclipseCompiler() throws IOException {
+		Pattern timeLine = Pattern.compile("^Processor (\\S+): \\d+ ms(, \\d+ ms in all rounds)?$", Pattern.MULTILINE);
+
+		String output = internalTestPrintProcessorTime("-XprintProcessorTime");
+		Matcher matcher = timeLine.matcher(output);
+		boolean genClassProcCalled = false, lastRoundReported = false;
+		while (matcher.find()) {
+			genClassProcCalled |= "org.eclipse.jdt.compiler.apt.tests.processors.genclass.GenClassProc".equals(matcher.group(1));
+			lastRoundReported |= matcher.group(2) != null;
+		}
+		assertTrue("Missing time of GenClassProc: " + output, genClassProcCalled);
+		assertTrue("Missing total time of the last round: " + output, lastRoundReported);
+
+		output = internalTestPrintProcessorTime();
+		assertFalse("Unexpected processor time: " + output, timeLine.matcher(output).find());
+	}
+
+	private String internalTestPrintProcessorTime(String... extraOptions) throws IOException {
+		File targetFolder = TestUtils.concatPath(BatchTestUtils.getSrcFolderName(), "targets", "dispatch");
+		File inputFile = BatchTestUtils.copyResource("targets/dispatch/HasGenClass.java", targetFolder);
+		assertNotNull("No input file", inputFile);
+
+		List<String> options = new ArrayList<>(Arrays.asList(extraOptions));
+		StringWriter output = new StringWriter();
+		BatchTestUtils.compileOneClass(BatchTestUtils.getEclipseCompiler(), options, inputFile, false, output);
+		return output.toString().replace("\r\n", "\n");
+	}
+
 	/**
 	 * Validate the inherited annotations test against the javac compiler.
 	 */
@@ -102,6 +102,12 @@ public class BatchTestUtils {
 		return compileOneClass(compiler, options, inputFile, false);
 	}
 	public static DiagnosticReport<JavaFileObject> compileOneClass(JavaCompiler compiler, List<String> options, File inputFile, boolean useJLS8Processors) {
+		return compileOneClass(compiler, options, inputFile, useJLS8Processors, new StringWriter());
+	}
+	/**
+	 * @param stringWriter a StringWriter into which compiler output will be written
+	 */
+	public static DiagnosticReport<JavaFileObject> compileOneClass(JavaCompiler compiler, List<String> options, File inputFile, boolean useJLS8Processors, StringWriter stringWriter) {
 		DiagnosticReport<JavaFileObject> diagnostics = new DiagnosticReport<>();
 		StandardJavaFileManager manager = compiler.getStandardFileManager(diagnostics, Locale.getDefault(), Charset.defaultCharset());
 
@@ -109,7 +115,6 @@ public class BatchTestUtils {
 		List<File> files = new ArrayList<>();
 		files.add(inputFile);
 		Iterable<? extends JavaFileObject> units = manager.getJavaFileObjectsFromFiles(files);
-		StringWriter stringWriter = new StringWriter();
 		PrintWriter printWriter = new PrintWriter(stringWriter);
 
 		options.add("-d");
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 BEA Systems, Inc. and others
+ * Copyright (c) 2007, 2024 BEA Systems, Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -228,6 +228,43 @@ public class FileManagerTests extends TestCase {
 		assertNull(loader.findResource("jarresource.txt")); // assert the classloader is closed
 	}
 
+	// The listing of a directory is reused only as long as the directory is not modified
+	public void testListAfterChange() throws Exception {
+		Path dir = Files.createTempDirectory("listAfterChange-");
+		Path pkg = Files.createDirectories(dir.resolve("p"));
+		Files.writeString(pkg.resolve("X.java"), "package p; public class X {}");
+		// old enough for its listing to be cached
+		assertTrue(pkg.toFile().setLastModified(System.currentTimeMillis() - 60000));
+		try (EclipseFileManager fileManager = new EclipseFileManager(Locale.getDefault(), Charset.defaultCharset())) {
+			List<File> sourcepath = new ArrayList<>();
+			sourcepath.add(dir.toFile());
+			fileManager.setLocation(javax.tools.StandardLocation.SOURCE_PATH, sourcepath);
+			Set<JavaFileObject.Kind> fileTypes = new HashSet<>();
+			fileTypes.add(JavaFileObject.Kind.SOURCE);
+			assertEquals("Wrong contents", "[X.java]", listNames(fileManager.list(javax.tools.StandardLocation.SOURCE_PATH, "p", fileTypes, false)));
+
+			Files.writeString(pkg.resolve("Y.java"), "package p; public class Y {}");
+			assertEquals("Wrong contents", "[X.java, Y.java]", listNames(fileManager.list(javax.tools.StandardLocation.SOURCE_PATH, "p", fileTypes, false)));
+
+			Files.delete(pkg.resolve("X.java"));
+			assertEquals("Wrong contents", "[Y.java]", listNames(fileManager.list(javax.tools.StandardLocation.SOURCE_PATH, "p", fileTypes, false)));
+		} finally {
+			Files.delete(pkg.resolve("Y.java"));
+			Files.delete(pkg);
+			Files.delete(dir);
+		}
+	}
+
+	private String listNames(Iterable<? extends JavaFileObject> fileObjects) {
+		List<String> names = new ArrayList<>();
+		for (JavaFileObject fileObject : fileObjects) {
+			String name = fileObject.getName().replace('\\', '/');
+			names.add(name.substring(name.lastIndexOf('/') + 1));
+		}
+		names.sort(null);
+		return names.toString();
+	}
+
 	public void testBug573287_ArchiveFileObject_openInputStream() throws Exception {
 		Path dir = Files.createTempDirectory("repro573287-");
 		Path target = dir.resolve("copy573287.zip");
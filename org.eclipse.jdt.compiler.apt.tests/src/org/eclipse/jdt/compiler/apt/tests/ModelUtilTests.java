@@ -34,6 +34,7 @@ public class ModelUtilTests extends TestCase
 	// Processor class names; see corresponding usage in the processor classes.
 	private static final String ELEMENTUTILSPROC = "org.eclipse.jdt.compiler.apt.tests.processors.elementutils.ElementUtilsProc";
 	private static final String TYPEUTILSPROC = "org.eclipse.jdt.compiler.apt.tests.processors.typeutils.TypeUtilsProc";
+	private static final String MISSINGTYPEPROC = "org.eclipse.jdt.compiler.apt.tests.processors.elementutils.MissingTypeProc";
 
 	@Override
 	protected void setUp() throws Exception {
@@ -85,15 +86,28 @@ public class ModelUtilTests extends TestCase
 		internalTest(compiler, TYPEUTILSPROC);
 	}
 
+	/**
+	 * Test that a type which Elements.getTypeElement() did not find is found once it was generated,
+	 * also when a class file was generated in between.
+	 */
+	public void testMissingTypeWithEclipseCompiler() throws IOException {
+		JavaCompiler compiler = BatchTestUtils.getEclipseCompiler();
+		internalTest(compiler, MISSINGTYPEPROC, "missingtype");
+	}
+
+	private void internalTest(JavaCompiler compiler, String processorClass) throws IOException {
+		internalTest(compiler, processorClass, "model");
+	}
+
 	/**
 	 * Test functionality by running a particular processor against the types in
 	 * resources/targets.  The processor must support "*" (the set of all annotations)
 	 * and must report its errors or success via the methods in BaseProcessor.
 	 */
-	private void internalTest(JavaCompiler compiler, String processorClass) throws IOException {
+	private void internalTest(JavaCompiler compiler, String processorClass, String target) throws IOException {
 		System.clearProperty(processorClass);
-		File targetFolder = TestUtils.concatPath(BatchTestUtils.getSrcFolderName(), "targets", "model");
-		BatchTestUtils.copyResources("targets/model", targetFolder);
+		File targetFolder = TestUtils.concatPath(BatchTestUtils.getSrcFolderName(), "targets", target);
+		BatchTestUtils.copyResources("targets/" + target, targetFolder);
 
 		List<String> options = new ArrayList<>();
 		options.add("-A" + processorClass);
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2024 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The {@link CharOperation} methods used the most by the lookups of the compiler, applied to
+ * qualified type names as they appear in the class files and in the sources.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CharOperationBenchmark {
+
+	private static final String[] NAMES = {
+		"java/lang/Object", //$NON-NLS-1$
+		"java/lang/String", //$NON-NLS-1$
+		"java/util/Map$Entry", //$NON-NLS-1$
+		"java/util/concurrent/ConcurrentHashMap", //$NON-NLS-1$
+		"java/util/stream/Collectors", //$NON-NLS-1$
+		"org/eclipse/jdt/internal/compiler/lookup/ParameterizedGenericMethodBinding", //$NON-NLS-1$
+		"org/eclipse/jdt/internal/compiler/lookup/InferenceContext18", //$NON-NLS-1$
+		"org/eclipse/jdt/core/compiler/CharOperation", //$NON-NLS-1$
+	};
+
+	private char[][] names;
+	private char[][] copies; // equal to the names, but not identical
+	private char[][][] compoundNames;
+	private char[] prefix;
+	private char[] segment;
+
+	@Setup
+	public void setup() {
+		this.names = new char[NAMES.length][];
+		this.copies = new char[NAMES.length][];
+		this.compoundNames = new char[NAMES.length][][];
+		for (int i = 0; i < NAMES.length; i++) {
+			this.names[i] = NAMES[i].toCharArray();
+			this.copies[i] = NAMES[i].toCharArray();
+			this.compoundNames[i] = CharOperation.splitOn('/', this.names[i]);
+		}
+		this.prefix = "org/eclipse/jdt/internal/compiler/".toCharArray(); //$NON-NLS-1$
+		this.segment = "Binding".toCharArray(); //$NON-NLS-1$
+	}
+
+	@Benchmark
+	public void equals(Blackhole blackhole) {
+		for (int i = 0; i < this.names.length; i++) {
+			blackhole.consume(CharOperation.equals(this.names[i], this.copies[i]));
+			blackhole.consume(CharOperation.equals(this.names[i], this.copies[(i + 1) % this.copies.length]));
+		}
+	}
+
+	@Benchmark
+	public void compoundEquals(Blackhole blackhole) {
+		for (int i = 0; i < this.compoundNames.length; i++)
+			blackhole.consume(CharOperation.equals(this.compoundNames[i], this.compoundNames[(i + 1) % this.compoundNames.length]));
+	}
+
+	@Benchmark
+	public void hashCode(Blackhole blackhole) {
+		for (char[] name : this.names)
+			blackhole.consume(CharOperation.hashCode(name));
+	}
+
+	@Benchmark
+	public void prefixEquals(Blackhole blackhole) {
+		for (char[] name : this.names)
+			blackhole.consume(CharOperation.prefixEquals(this.prefix, name));
+	}
+
+	@Benchmark
+	public void indexOf(Blackhole blackhole) {
+		for (char[] name : this.names) {
+			blackhole.consume(CharOperation.indexOf('$', name));
+			blackhole.consume(CharOperation.lastIndexOf('/', name));
+			blackhole.consume(CharOperation.indexOf(this.segment, name, true));
+		}
+	}
+
+	@Benchmark
+	public void splitOn(Blackhole blackhole) {
+		for (char[] name : this.names)
+			blackhole.consume(CharOperation.splitOn('/', name));
+	}
+
+	@Benchmark
+	public void concatWith(Blackhole blackhole) {
+		for (char[][] compoundName : this.compoundNames)
+			blackhole.consume(CharOperation.concatWith(compoundName, '.'));
+	}
+
+	@Benchmark
+	public void compareTo(Blackhole blackhole) {
+		for (int i = 0; i < this.names.length; i++)
+			blackhole.consume(CharOperation.compareTo(this.names[i], this.names[(i + 1) % this.names.length]));
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2024 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.env.IBinaryMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decodes class files with {@link ClassFileReader}, either completely or only their header as
+ * done when the compiler looks up a type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ClassFileReaderBenchmark {
+
+	/** Class files of the compiler itself, from a large one to a small one. */
+	@Param({
+		"org/eclipse/jdt/internal/compiler/parser/Parser", //$NON-NLS-1$
+		"org/eclipse/jdt/internal/compiler/lookup/InferenceContext18", //$NON-NLS-1$
+		"org/eclipse/jdt/core/compiler/CharOperation", //$NON-NLS-1$
+		"org/eclipse/jdt/internal/compiler/env/NameEnvironmentAnswer", //$NON-NLS-1$
+	})
+	public String className;
+
+	private byte[] bytes;
+	private char[] fileName;
+
+	@Setup
+	public void setup() throws IOException {
+		try (InputStream input = ClassFileReader.class.getClassLoader().getResourceAsStream(this.className + ".class")) { //$NON-NLS-1$
+			if (input == null)
+				throw new IllegalArgumentException("Unknown class: " + this.className); //$NON-NLS-1$
+			this.bytes = input.readAllBytes();
+		}
+		this.fileName = (this.className + ".class").toCharArray(); //$NON-NLS-1$
+	}
+
+	@Benchmark
+	public ClassFileReader readHeader() throws ClassFormatException {
+		return new ClassFileReader(this.bytes, this.fileName);
+	}
+
+	@Benchmark
+	public ClassFileReader readFully() throws ClassFormatException {
+		return new ClassFileReader(this.bytes, this.fileName, true);
+	}
+
+	@Benchmark
+	public int readMethods() throws ClassFormatException {
+		int count = 0;
+		IBinaryMethod[] methods = new ClassFileReader(this.bytes, this.fileName).getMethods();
+		if (methods != null) {
+			for (IBinaryMethod method : methods)
+				count += method.getMethodDescriptor().length;
+		}
+		return count;
+	}
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2024 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compiles a source down to class file bytes against the runtime image of the running VM. The name
+ * environment is kept across the invocations, so that the binary types are read only once.
+ * <p>
+ * <code>StreamPipelines</code> and <code>NestedInference</code> measure the type inference (<code>InferenceContext18</code>,
+ * <code>BoundSet</code>),
+ * <code>ControlFlow</code> the flow analysis and the code generation (<code>CodeStream</code>,
+ * <code>ClassFile</code>).
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CompilerBenchmark {
+
+	@Param({ Sources.DECLARATIONS, Sources.CONTROL_FLOW, Sources.STREAM_PIPELINES, Sources.NESTED_INFERENCE })
+	public String source;
+
+	private char[] contents;
+	private CompilerOptions options;
+	private FileSystem environment;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.contents = Sources.contents(this.source);
+		this.options = Sources.options();
+		this.environment = Sources.environment();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.environment.cleanup();
+	}
+
+	@Benchmark
+	public void compile(Blackhole blackhole) {
+		Compiler compiler = new Compiler(
+				this.environment,
+				DefaultErrorHandlingPolicies.proceedWithAllProblems(),
+				this.options,
+				(CompilationResult result) -> {
+					if (result.hasErrors())
+						throw new IllegalStateException(String.valueOf(result.getErrors()[0]));
+					for (ClassFile classFile : result.getClassFiles())
+						blackhole.consume(classFile.getBytes());
+				},
+				new DefaultProblemFactory());
+		compiler.compile(new ICompilationUnit[] {
+			new CompilationUnit(this.contents, "benchmark/" + this.source + ".java", "UTF-8") //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		});
+	}
+}
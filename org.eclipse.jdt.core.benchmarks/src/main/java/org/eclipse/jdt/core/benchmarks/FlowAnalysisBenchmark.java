@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2024 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compiles a generated method with many locals and branches, as the generated parsers and
+ * serializers have. Past 64 locals, <code>UnconditionalFlowInfo</code> keeps the flow information
+ * in its extra arrays, which every branch copies and merges.
+ * <p>
+ * Each group of the method declares a few locals, assigns them in both branches of an <code>if</code>
+ * and tests them for null, so that both the definite assignment and the null status are tracked.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FlowAnalysisBenchmark {
+
+	@Param({ "100", "500", "1000" })
+	public int groups;
+
+	private char[] contents;
+	private CompilerOptions options;
+	private FileSystem environment;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.contents = generate(this.groups).toCharArray();
+		this.options = Sources.options();
+		this.environment = Sources.environment();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.environment.cleanup();
+	}
+
+	static String generate(int groups) {
+		StringBuilder source = new StringBuilder();
+		source.append("package benchmark;\n\npublic class Generated {\n\tint run(String s, int n) {\n\t\tint total = 0;\n"); //$NON-NLS-1$
+		for (int i = 0; i < groups; i++) {
+			source.append("\t\tString s").append(i).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("\t\tint i").append(i).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("\t\tif (n > ").append(i).append(") {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("\t\t\ts").append(i).append(" = s;\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("\t\t\ti").append(i).append(" = n;\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("\t\t} else {\n"); //$NON-NLS-1$
+			source.append("\t\t\ts").append(i).append(" = null;\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("\t\t\ti").append(i).append(" = ").append(i).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			source.append("\t\t}\n"); //$NON-NLS-1$
+			source.append("\t\tif (s").append(i).append(" != null)\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("\t\t\ttotal += s").append(i).append(".length() + i").append(i).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		source.append("\t\treturn total;\n\t}\n}\n"); //$NON-NLS-1$
+		return source.toString();
+	}
+
+	@Benchmark
+	public void compile() {
+		Compiler compiler = new Compiler(
+				this.environment,
+				DefaultErrorHandlingPolicies.proceedWithAllProblems(),
+				this.options,
+				(CompilationResult result) -> {
+					if (result.hasErrors())
+						throw new IllegalStateException(String.valueOf(result.getErrors()[0]));
+				},
+				new DefaultProblemFactory());
+		compiler.compile(new ICompilationUnit[] {
+			new CompilationUnit(this.contents, "benchmark/Generated.java", "UTF-8") //$NON-NLS-1$ //$NON-NLS-2$
+		});
+	}
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2024 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.internal.compiler.util.CharDelegateMap;
+import org.eclipse.jdt.internal.compiler.util.HashtableOfObject;
+import org.eclipse.jdt.internal.compiler.util.HashtableOfType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The char[] keyed tables of <code>compiler.util</code>, filled and looked up with the names of the
+ * class files of <code>java.base</code>, as the lookup environment does:
+ * <ul>
+ * <li><code>HashtableOfType</code> with the simple names of the types of a package, as the known types of a
+ * <code>PackageBinding</code>,</li>
+ * <li><code>CharDelegateMap</code> (<code>HashtableOfPackage</code>) with the names of the sub packages,</li>
+ * <li><code>HashtableOfObject</code> with the qualified names, as the tables keyed by type names of the
+ * index and of the builder state.</li>
+ * </ul>
+ * Half of the lookups miss, as the lookups of the names that turn out to be packages, or to be
+ * declared by another import, do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HashtableBenchmark {
+
+	private char[][][] typeNamesByPackage; // simple names
+	private char[][] packageNames; // last segments
+	private char[][] qualifiedNames;
+	private char[][] lookups; // copies of the qualified names, and as many missing names, shuffled
+
+	private HashtableOfType[] types;
+	private CharDelegateMap<Object> packages;
+	private HashtableOfObject qualifiedTypes;
+
+	@Setup
+	public void setup() {
+		Map<String, List<String>> typesByPackage = new LinkedHashMap<>();
+		Set<String> packageSegments = new LinkedHashSet<>();
+		try (FileSystem jrt = FileSystems.newFileSystem(URI.create("jrt:/"), Collections.emptyMap()); //$NON-NLS-1$
+				Stream<Path> files = Files.walk(jrt.getPath("/modules/java.base"))) { //$NON-NLS-1$
+			files.map(path -> path.toString())
+				.filter(name -> name.endsWith(".class") && !name.endsWith("/module-info.class")) //$NON-NLS-1$ //$NON-NLS-2$
+				.map(name -> name.substring("/modules/java.base/".length())) //$NON-NLS-1$
+				.forEach(name -> {
+					int slash = name.lastIndexOf('/');
+					String packageName = name.substring(0, slash);
+					typesByPackage.computeIfAbsent(packageName, p -> new ArrayList<>())
+						.add(name.substring(slash + 1, name.length() - ".class".length())); //$NON-NLS-1$
+					packageSegments.add(packageName.substring(packageName.lastIndexOf('/') + 1));
+				});
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		this.typeNamesByPackage = new char[typesByPackage.size()][][];
+		List<char[]> qualified = new ArrayList<>();
+		int p = 0;
+		for (Map.Entry<String, List<String>> entry : typesByPackage.entrySet()) {
+			List<String> simpleNames = entry.getValue();
+			char[][] names = this.typeNamesByPackage[p++] = new char[simpleNames.size()][];
+			for (int i = 0; i < names.length; i++) {
+				names[i] = simpleNames.get(i).toCharArray();
+				qualified.add((entry.getKey() + '/' + simpleNames.get(i)).toCharArray());
+			}
+		}
+		this.packageNames = packageSegments.stream().map(String::toCharArray).toArray(char[][]::new);
+		this.qualifiedNames = qualified.toArray(new char[qualified.size()][]);
+
+		List<char[]> lookupList = new ArrayList<>();
+		for (char[] name : this.qualifiedNames) {
+			lookupList.add(name.clone());
+			lookupList.add((new String(name) + "$1").toCharArray()); //$NON-NLS-1$
+		}
+		Collections.shuffle(lookupList, new Random(42));
+		this.lookups = lookupList.toArray(new char[lookupList.size()][]);
+
+		this.types = fillTypes();
+		this.packages = fillPackages();
+		this.qualifiedTypes = fillQualifiedTypes();
+	}
+
+	private HashtableOfType[] fillTypes() {
+		HashtableOfType[] tables = new HashtableOfType[this.typeNamesByPackage.length];
+		for (int i = 0; i < tables.length; i++) {
+			HashtableOfType table = tables[i] = new HashtableOfType();
+			for (char[] name : this.typeNamesByPackage[i])
+				table.put(name, null);
+		}
+		return tables;
+	}
+
+	private CharDelegateMap<Object> fillPackages() {
+		CharDelegateMap<Object> map = new CharDelegateMap<>();
+		for (char[] name : this.packageNames)
+			map.put(name, name);
+		return map;
+	}
+
+	private HashtableOfObject fillQualifiedTypes() {
+		HashtableOfObject table = new HashtableOfObject();
+		for (char[] name : this.qualifiedNames)
+			table.put(name, name);
+		return table;
+	}
+
+	@Benchmark
+	public Object fill() {
+		fillTypes();
+		fillPackages();
+		return fillQualifiedTypes();
+	}
+
+	@Benchmark
+	public void typeLookup(Blackhole blackhole) {
+		for (int i = 0; i < this.typeNamesByPackage.length; i++) {
+			HashtableOfType table = this.types[i];
+			for (char[] name : this.typeNamesByPackage[i]) {
+				blackhole.consume(table.containsKey(name));
+				blackhole.consume(table.containsKey(this.packageNames[name.length % this.packageNames.length]));
+			}
+		}
+	}
+
+	@Benchmark
+	public void packageLookup(Blackhole blackhole) {
+		for (char[][] names : this.typeNamesByPackage) {
+			for (char[] name : names)
+				blackhole.consume(this.packages.get(name));
+		}
+		for (char[] name : this.packageNames)
+			blackhole.consume(this.packages.get(name));
+	}
+
+	@Benchmark
+	public void qualifiedLookup(Blackhole blackhole) {
+		for (char[] name : this.lookups)
+			blackhole.consume(this.qualifiedTypes.get(name));
+	}
+}
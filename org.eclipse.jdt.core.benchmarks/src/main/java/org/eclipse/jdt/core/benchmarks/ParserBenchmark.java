@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2024 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses a whole source with {@link Parser}, either completely or without the method bodies as
+ * done for the units which are not compiled yet.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParserBenchmark {
+
+	@Param({ Sources.DECLARATIONS, Sources.CONTROL_FLOW, Sources.STREAM_PIPELINES })
+	public String source;
+
+	private CompilationUnit unit;
+	private Parser parser;
+
+	@Setup
+	public void setup() {
+		this.unit = Sources.unit(this.source);
+		CompilerOptions options = Sources.options();
+		this.parser = new Parser(Sources.problemReporter(options), options.parseLiteralExpressionsAsConstants);
+	}
+
+	@Benchmark
+	public CompilationUnitDeclaration parse() {
+		return this.parser.parse(this.unit, Sources.result(this.unit));
+	}
+
+	@Benchmark
+	public CompilationUnitDeclaration dietParse() {
+		return this.parser.dietParse(this.unit, Sources.result(this.unit));
+	}
+
+	@Benchmark
+	public CompilationUnitDeclaration dietParseThenMethodBodies() {
+		CompilationUnitDeclaration declaration = this.parser.dietParse(this.unit, Sources.result(this.unit));
+		this.parser.getMethodBodies(declaration);
+		return declaration;
+	}
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2024 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The first parse in a fresh VM, which loads the {@link Parser} class and its tables, as a build
+ * or a language server starting up does. Every fork measures a single invocation.
+ * <p>
+ * <code>firstSyntaxError</code> parses a truncated source, and so additionally loads the tables
+ * that only the diagnosis of the syntax errors uses.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ParserStartupBenchmark {
+
+	private CompilationUnit unit;
+	private CompilationUnit truncatedUnit;
+	private CompilerOptions options;
+
+	@Setup
+	public void setup() {
+		char[] contents = Sources.contents(Sources.DECLARATIONS);
+		this.unit = new CompilationUnit(contents, "benchmark/Declarations.java", "UTF-8"); //$NON-NLS-1$ //$NON-NLS-2$
+		this.truncatedUnit = new CompilationUnit(Arrays.copyOf(contents, contents.length / 2), "benchmark/Declarations.java", "UTF-8"); //$NON-NLS-1$ //$NON-NLS-2$
+		this.options = Sources.options();
+	}
+
+	@Benchmark
+	public CompilationUnitDeclaration firstParse() {
+		Parser parser = new Parser(Sources.problemReporter(this.options), this.options.parseLiteralExpressionsAsConstants);
+		return parser.parse(this.unit, Sources.result(this.unit));
+	}
+
+	@Benchmark
+	public CompilationUnitDeclaration firstSyntaxError() {
+		Parser parser = new Parser(Sources.problemReporter(this.options), this.options.parseLiteralExpressionsAsConstants);
+		return parser.parse(this.truncatedUnit, Sources.result(this.truncatedUnit));
+	}
+}
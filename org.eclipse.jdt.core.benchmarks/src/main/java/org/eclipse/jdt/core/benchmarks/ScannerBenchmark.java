@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2024 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.parser.Scanner;
+import org.eclipse.jdt.internal.compiler.parser.TerminalTokens;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Tokenizes a whole source with {@link Scanner#getNextToken()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ScannerBenchmark {
+
+	@Param({ Sources.DECLARATIONS, Sources.CONTROL_FLOW, Sources.STREAM_PIPELINES })
+	public String source;
+
+	private char[] contents;
+	private Scanner scanner;
+
+	@Setup
+	public void setup() {
+		this.contents = Sources.contents(this.source);
+		this.scanner = new Scanner(false /*comment*/, false /*whitespace*/, false /*nls*/, ClassFileConstants.JDK21 /*sourceLevel*/,
+				null /*taskTags*/, null /*taskPriorities*/, true /*taskCaseSensitive*/);
+	}
+
+	@Benchmark
+	public int tokenize() throws InvalidInputException {
+		this.scanner.setSource(this.contents);
+		int count = 0;
+		while (this.scanner.getNextToken() != TerminalTokens.TokenNameEOF)
+			count++;
+		return count;
+	}
+
+	@Benchmark
+	public int tokenizeWithComments() throws InvalidInputException {
+		// the comments are recorded for the javadoc and the task tags
+		this.scanner.tokenizeComments = true;
+		try {
+			return tokenize();
+		} finally {
+			this.scanner.tokenizeComments = false;
+		}
+	}
+}
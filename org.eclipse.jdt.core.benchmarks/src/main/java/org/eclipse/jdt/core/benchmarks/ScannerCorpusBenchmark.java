@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2024 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.parser.Scanner;
+import org.eclipse.jdt.internal.compiler.parser.TerminalTokens;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Tokenizes a whole tree of real-world sources with {@link Scanner#getNextToken()}, by default the
+ * sources of the batch compiler when run from the root of the repository. Another tree is selected
+ * with <code>-p directory=...</code>.
+ * <p>
+ * <code>tokenize</code> is the scanning done for the parser, <code>tokenizeWithWhitespaces</code>
+ * the one done for the formatter, which also answers the comments and the white spaces.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ScannerCorpusBenchmark {
+
+	@Param("org.eclipse.jdt.core.compiler.batch/src")
+	public String directory;
+
+	private List<char[]> contents;
+
+	@Setup
+	public void setup() {
+		this.contents = Sources.tree(this.directory);
+	}
+
+	@Benchmark
+	public int tokenize() throws InvalidInputException {
+		return tokenize(new Scanner(false /*comment*/, false /*whitespace*/, false /*nls*/, ClassFileConstants.JDK21 /*sourceLevel*/,
+				null /*taskTags*/, null /*taskPriorities*/, true /*taskCaseSensitive*/));
+	}
+
+	@Benchmark
+	public int tokenizeWithWhitespaces() throws InvalidInputException {
+		return tokenize(new Scanner(true /*comment*/, true /*whitespace*/, false /*nls*/, ClassFileConstants.JDK21 /*sourceLevel*/,
+				null /*taskTags*/, null /*taskPriorities*/, true /*taskCaseSensitive*/));
+	}
+
+	private int tokenize(Scanner scanner) throws InvalidInputException {
+		int count = 0;
+		for (char[] source : this.contents) {
+			scanner.setSource(source);
+			while (scanner.getNextToken() != TerminalTokens.TokenNameEOF)
+				count++;
+		}
+		return count;
+	}
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2024 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+import org.eclipse.jdt.internal.compiler.util.JRTUtil;
+
+/**
+ * The representative sources the benchmarks work on, and the compiler setup shared by the benchmarks.
+ * <ul>
+ * <li><code>Declarations</code>: declarations, annotations and comments, dominated by scanning and parsing,</li>
+ * <li><code>ControlFlow</code>: statements and expressions, dominated by flow analysis and code generation,</li>
+ * <li><code>StreamPipelines</code>: generic methods and lambdas, dominated by type inference,</li>
+ * <li><code>NestedInference</code>: pathological cases for the type inference, deeply nested generic method invocations
+ * and overloaded generic methods taking lambdas.</li>
+ * </ul>
+ */
+final class Sources {
+
+	static final String DECLARATIONS = "Declarations"; //$NON-NLS-1$
+	static final String CONTROL_FLOW = "ControlFlow"; //$NON-NLS-1$
+	static final String STREAM_PIPELINES = "StreamPipelines"; //$NON-NLS-1$
+	static final String NESTED_INFERENCE = "NestedInference"; //$NON-NLS-1$
+
+	static final String COMPLIANCE = CompilerOptions.VERSION_21;
+
+	private Sources() {
+		// not instantiable
+	}
+
+	static char[] contents(String name) {
+		try (InputStream input = Sources.class.getResourceAsStream("sources/" + name + ".java")) { //$NON-NLS-1$ //$NON-NLS-2$
+			if (input == null)
+				throw new IllegalArgumentException("Unknown source: " + name); //$NON-NLS-1$
+			return new String(input.readAllBytes(), StandardCharsets.UTF_8).toCharArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Answers the contents of all the Java sources under a directory, in a stable order.
+	 */
+	static List<char[]> tree(String directory) {
+		Path root = Paths.get(directory);
+		if (!Files.isDirectory(root))
+			throw new IllegalArgumentException("Not a directory: " + root.toAbsolutePath()); //$NON-NLS-1$
+		try (Stream<Path> paths = Files.walk(root)) {
+			return paths.filter(path -> path.toString().endsWith(".java")) //$NON-NLS-1$
+					.sorted()
+					.map(path -> {
+						try {
+							return new String(Files.readAllBytes(path), StandardCharsets.UTF_8).toCharArray();
+						} catch (IOException e) {
+							throw new UncheckedIOException(e);
+						}
+					})
+					.collect(Collectors.toList());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static CompilationUnit unit(String name) {
+		return new CompilationUnit(contents(name), "benchmark/" + name + ".java", "UTF-8"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	static CompilationResult result(CompilationUnit unit) {
+		return new CompilationResult(unit, 0, 1, Integer.MAX_VALUE);
+	}
+
+	static CompilerOptions options() {
+		Map<String, String> settings = new HashMap<>();
+		settings.put(CompilerOptions.OPTION_Compliance, COMPLIANCE);
+		settings.put(CompilerOptions.OPTION_Source, COMPLIANCE);
+		settings.put(CompilerOptions.OPTION_TargetPlatform, COMPLIANCE);
+		settings.put(CompilerOptions.OPTION_LocalVariableAttribute, CompilerOptions.GENERATE);
+		settings.put(CompilerOptions.OPTION_LineNumberAttribute, CompilerOptions.GENERATE);
+		settings.put(CompilerOptions.OPTION_SourceFileAttribute, CompilerOptions.GENERATE);
+		return new CompilerOptions(settings);
+	}
+
+	static ProblemReporter problemReporter(CompilerOptions options) {
+		return new ProblemReporter(DefaultErrorHandlingPolicies.proceedWithAllProblems(), options, new DefaultProblemFactory());
+	}
+
+	/**
+	 * Answers a name environment on the runtime image of the running VM.
+	 */
+	static FileSystem environment() {
+		String jrt = System.getProperty("java.home") + File.separator + "lib" + File.separator + JRTUtil.JRT_FS_JAR; //$NON-NLS-1$ //$NON-NLS-2$
+		return new FileSystem(new String[] { jrt }, null, null);
+	}
+}
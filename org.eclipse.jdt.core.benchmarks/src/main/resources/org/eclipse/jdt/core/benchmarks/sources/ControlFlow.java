@@ -0,0 +1,177 @@
+package benchmark;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.BufferedReader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Code exercising the generation of statements, expressions and exception handlers.
+ */
+public class ControlFlow {
+
+	static final int LIMIT = 1 << 16;
+	private int[] values = new int[64];
+	private long checksum;
+
+	public int sumOfPrimes(int max) {
+		int sum = 0;
+		outer: for (int i = 2; i <= max; i++) {
+			for (int j = 2; j * j <= i; j++) {
+				if (i % j == 0)
+					continue outer;
+			}
+			sum += i;
+		}
+		return sum;
+	}
+
+	public String classify(Object value) {
+		return switch (value) {
+			case null -> "null"; //$NON-NLS-1$
+			case Integer i when i > 100 -> "large int"; //$NON-NLS-1$
+			case Integer i -> "int " + i; //$NON-NLS-1$
+			case String s when s.isEmpty() -> "empty string"; //$NON-NLS-1$
+			case String s -> "string of " + s.length(); //$NON-NLS-1$
+			case int[] array -> "array of " + array.length; //$NON-NLS-1$
+			default -> value.getClass().getSimpleName();
+		};
+	}
+
+	public int dayNumber(String day) {
+		switch (day) {
+			case "MONDAY": //$NON-NLS-1$
+				return 1;
+			case "TUESDAY": //$NON-NLS-1$
+				return 2;
+			case "WEDNESDAY": //$NON-NLS-1$
+				return 3;
+			case "THURSDAY": //$NON-NLS-1$
+				return 4;
+			case "FRIDAY": //$NON-NLS-1$
+				return 5;
+			case "SATURDAY": //$NON-NLS-1$
+			case "SUNDAY": //$NON-NLS-1$
+				return 6;
+			default:
+				throw new IllegalArgumentException(day);
+		}
+	}
+
+	public int lookupSwitch(int key) {
+		int result;
+		switch (key) {
+			case 1: result = 10; break;
+			case 10: result = 20; break;
+			case 100: result = 30; break;
+			case 1000: result = 40; break;
+			case 10000: result = 50; break;
+			default: result = -1;
+		}
+		return result;
+	}
+
+	public int tableSwitch(int key) {
+		return switch (key) {
+			case 0 -> 7;
+			case 1 -> 11;
+			case 2 -> 13;
+			case 3 -> 17;
+			case 4 -> 19;
+			case 5 -> {
+				int x = key * key;
+				yield x + 1;
+			}
+			default -> 0;
+		};
+	}
+
+	public long mix(long seed) {
+		long h = seed;
+		for (int i = 0; i < this.values.length; i++) {
+			h ^= h >>> 33;
+			h *= 0xff51afd7ed558ccdL;
+			h ^= h >>> 33;
+			h += this.values[i] & 0xFF | (i << 8);
+			this.values[i] = (int) (h ^ (h >>> 32));
+		}
+		this.checksum += h;
+		return h;
+	}
+
+	public int countLines(String text) {
+		int count = 0;
+		try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
+			while (reader.readLine() != null)
+				count++;
+		} catch (IOException e) {
+			count = -1;
+		} finally {
+			this.checksum++;
+		}
+		return count;
+	}
+
+	public boolean balanced(String expression) {
+		Deque<Character> stack = new ArrayDeque<>();
+		for (char c : expression.toCharArray()) {
+			if (c == '(' || c == '[' || c == '{') {
+				stack.push(Character.valueOf(c));
+			} else if (c == ')' || c == ']' || c == '}') {
+				if (stack.isEmpty())
+					return false;
+				char open = stack.pop().charValue();
+				if ((c == ')' && open != '(') || (c == ']' && open != '[') || (c == '}' && open != '{'))
+					return false;
+			}
+		}
+		return stack.isEmpty();
+	}
+
+	public String describe(int a, long b, double c, boolean d, char e, String f) {
+		return "a=" + a + ", b=" + b + ", c=" + c + ", d=" + d + ", e=" + e + ", f=" + f //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+				+ (a > b ? " greater" : " smaller") + (d && c > 0.5 || e == 'x' ? "!" : "?"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	public int fibonacci(int n) {
+		int a = 0, b = 1;
+		while (n-- > 0) {
+			int t = a + b;
+			a = b;
+			b = t;
+		}
+		return a;
+	}
+
+	public int retry(int attempts) {
+		int failures = 0;
+		do {
+			try {
+				if (attempts % 3 == 0)
+					throw new IllegalStateException();
+				if (attempts % 5 == 0)
+					throw new UnsupportedOperationException();
+				return attempts;
+			} catch (IllegalStateException | UnsupportedOperationException e) {
+				failures++;
+			} finally {
+				this.checksum ^= attempts;
+			}
+		} while (--attempts > 0 && failures < LIMIT);
+		return -failures;
+	}
+
+	public synchronized long checksum() {
+		return this.checksum;
+	}
+
+	public String textBlock() {
+		return """
+				{
+				  "name": "benchmark",
+				  "values": [1, 2, 3]
+				}
+				"""; //$NON-NLS-1$
+	}
+}
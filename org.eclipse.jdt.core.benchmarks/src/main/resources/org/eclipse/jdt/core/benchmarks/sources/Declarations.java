@@ -0,0 +1,279 @@
+package benchmark;
+
+import java.io.Serializable;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A growable list of elements, with the kind of declarations, comments and javadoc found in
+ * library code. Most of the time spent on such a file goes to scanning and parsing.
+ *
+ * @param <E> the type of the elements
+ */
+public class Declarations<E extends Comparable<? super E>> extends AbstractList<E> implements Serializable, Cloneable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Marks the members which are part of the public contract.
+	 */
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ ElementType.METHOD, ElementType.CONSTRUCTOR, ElementType.FIELD, ElementType.TYPE })
+	public @interface Api {
+		String since() default "1.0"; //$NON-NLS-1$
+		String[] tags() default {};
+		int level() default 0;
+	}
+
+	/** Default capacity of a new list. */
+	static final int DEFAULT_CAPACITY = 10;
+
+	/* Shared empty array instance used for empty instances. */
+	private static final Object[] EMPTY_ELEMENTDATA = {};
+
+	// the elements, the capacity of the list is the length of this array
+	transient Object[] elementData;
+
+	// the number of elements
+	private int size;
+
+	/**
+	 * Constructs an empty list with the specified initial capacity.
+	 *
+	 * @param initialCapacity the initial capacity of the list
+	 * @throws IllegalArgumentException if the specified initial capacity is negative
+	 */
+	@Api(since = "1.2", tags = { "constructor" }, level = 1) //$NON-NLS-1$ //$NON-NLS-2$
+	public Declarations(int initialCapacity) {
+		if (initialCapacity > 0) {
+			this.elementData = new Object[initialCapacity];
+		} else if (initialCapacity == 0) {
+			this.elementData = EMPTY_ELEMENTDATA;
+		} else {
+			throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Constructs an empty list with an initial capacity of ten.
+	 */
+	public Declarations() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a list containing the elements of the specified collection, in the order they are
+	 * returned by the collection's iterator.
+	 *
+	 * @param c the collection whose elements are to be placed into this list
+	 */
+	public Declarations(Collection<? extends E> c) {
+		Object[] a = c.toArray();
+		this.size = a.length;
+		this.elementData = this.size == 0 ? EMPTY_ELEMENTDATA : Arrays.copyOf(a, this.size, Object[].class);
+	}
+
+	/**
+	 * Increases the capacity to ensure that it can hold at least the number of elements specified
+	 * by the minimum capacity argument.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	private Object[] grow(int minCapacity) {
+		int oldCapacity = this.elementData.length;
+		int newCapacity = Math.max(minCapacity, oldCapacity + (oldCapacity >> 1));
+		return this.elementData = Arrays.copyOf(this.elementData, newCapacity);
+	}
+
+	@Override
+	@Api
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		for (int i = 0; i < this.size; i++) {
+			if (Objects.equals(o, this.elementData[i]))
+				return i;
+		}
+		return -1;
+	}
+
+	@Override
+	public int lastIndexOf(Object o) {
+		for (int i = this.size - 1; i >= 0; i--) {
+			if (Objects.equals(o, this.elementData[i]))
+				return i;
+		}
+		return -1;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		Objects.checkIndex(index, this.size);
+		return (E) this.elementData[index];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E set(int index, E element) {
+		Objects.checkIndex(index, this.size);
+		E oldValue = (E) this.elementData[index];
+		this.elementData[index] = element;
+		return oldValue;
+	}
+
+	@Override
+	public boolean add(E e) {
+		this.modCount++;
+		if (this.size == this.elementData.length)
+			grow(this.size + 1);
+		this.elementData[this.size++] = e;
+		return true;
+	}
+
+	@Override
+	public void add(int index, E element) {
+		if (index > this.size || index < 0)
+			throw new IndexOutOfBoundsException(index);
+		this.modCount++;
+		if (this.size == this.elementData.length)
+			grow(this.size + 1);
+		System.arraycopy(this.elementData, index, this.elementData, index + 1, this.size - index);
+		this.elementData[index] = element;
+		this.size++;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E remove(int index) {
+		Objects.checkIndex(index, this.size);
+		this.modCount++;
+		E oldValue = (E) this.elementData[index];
+		int newSize = this.size - 1;
+		if (newSize > index)
+			System.arraycopy(this.elementData, index + 1, this.elementData, index, newSize - index);
+		this.elementData[this.size = newSize] = null;
+		return oldValue;
+	}
+
+	/**
+	 * Answers the largest element of this list, using the natural ordering of the elements.
+	 *
+	 * @return the largest element
+	 * @throws NoSuchElementException if the list is empty
+	 */
+	@Api(since = "2.0") //$NON-NLS-1$
+	public E max() {
+		Iterator<E> iterator = iterator();
+		E max = iterator.next();
+		while (iterator.hasNext()) {
+			E next = iterator.next();
+			if (next.compareTo(max) > 0)
+				max = next;
+		}
+		return max;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Itr();
+	}
+
+	/**
+	 * An optimized version of AbstractList.Itr
+	 */
+	private class Itr implements Iterator<E> {
+		int cursor; // index of next element to return
+		int lastRet = -1; // index of last element returned; -1 if no such
+		int expectedModCount = Declarations.this.modCount;
+
+		Itr() {
+			super();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.cursor != Declarations.this.size;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() {
+			if (Declarations.this.modCount != this.expectedModCount)
+				throw new java.util.ConcurrentModificationException();
+			int i = this.cursor;
+			if (i >= Declarations.this.size)
+				throw new NoSuchElementException();
+			this.cursor = i + 1;
+			return (E) Declarations.this.elementData[this.lastRet = i];
+		}
+
+		@Override
+		public void remove() {
+			if (this.lastRet < 0)
+				throw new IllegalStateException();
+			Declarations.this.remove(this.lastRet);
+			this.cursor = this.lastRet;
+			this.lastRet = -1;
+			this.expectedModCount = Declarations.this.modCount;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Declarations<E> clone() {
+		try {
+			Declarations<E> v = (Declarations<E>) super.clone();
+			v.elementData = Arrays.copyOf(this.elementData, this.size);
+			v.modCount = 0;
+			return v;
+		} catch (CloneNotSupportedException e) {
+			// this shouldn't happen, since we are Cloneable
+			throw new InternalError(e);
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < this.size; i++) {
+			Object e = this.elementData[i];
+			hash = 31 * hash + (e == null ? 0 : e.hashCode());
+		}
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this)
+			return true;
+		if (!(o instanceof Declarations<?> other) || other.size != this.size)
+			return false;
+		for (int i = 0; i < this.size; i++) {
+			if (!Objects.equals(this.elementData[i], other.elementData[i]))
+				return false;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,140 @@
+package benchmark;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Pathological cases for the type inference: deeply nested generic method invocations, whose poly
+ * arguments are inferred together with the enclosing invocation, and overloaded generic methods
+ * taking lambda expressions, for which every candidate is inferred in turn.
+ */
+public class NestedInference {
+
+	public record Node<T>(T value, List<Node<T>> children) {
+		static <T> Node<T> leaf(T value) {
+			return new Node<>(value, List.of());
+		}
+		@SafeVarargs
+		static <T> Node<T> of(T value, Node<T>... children) {
+			return new Node<>(value, List.of(children));
+		}
+	}
+
+	static <A, B> Map.Entry<A, B> entry(A a, B b) {
+		return new SimpleEntry<>(a, b);
+	}
+
+	static <T> T id(T t) {
+		return t;
+	}
+
+	static <T> List<T> listOf(T a, T b) {
+		return List.of(a, b);
+	}
+
+	static <T> Supplier<T> lazy(Supplier<? extends T> supplier) {
+		return supplier::get;
+	}
+
+	// overloads with the same number of parameters, differing by the arity of the function type of the last one
+	static <T, R> R apply(T t, Supplier<? extends R> supplier) {
+		return supplier.get();
+	}
+	static <T, R> R apply(T t, Function<? super T, ? extends R> function) {
+		return function.apply(t);
+	}
+	static <T, R> R apply(T t, BiFunction<? super T, ? super T, ? extends R> function) {
+		return function.apply(t, t);
+	}
+	static <T, R> R apply(T t, T u, Function<? super T, ? extends R> function) {
+		return function.apply(u);
+	}
+	static <T, R> R apply(T t, T u, BiFunction<? super T, ? super T, ? extends R> function) {
+		return function.apply(t, u);
+	}
+
+	static <T, R> Function<T, R> compose3(Function<? super T, ? extends R> first, Function<? super R, ? extends R> second,
+			Function<? super R, ? extends R> third) {
+		return t -> third.apply(second.apply(first.apply(t)));
+	}
+
+	Map.Entry<String, Map.Entry<Integer, Map.Entry<Long, Map.Entry<Double, List<Map.Entry<String, Integer>>>>>> nestedEntries() {
+		return entry("a", entry(1, entry(2L, entry(3.0, listOf(entry("b", 4), entry("c", 5))))));
+	}
+
+	List<List<List<List<Optional<String>>>>> nestedLists() {
+		return listOf(listOf(listOf(listOf(Optional.of("a"), Optional.empty()), listOf(Optional.empty(), Optional.of("b"))),
+				listOf(listOf(id(Optional.of("c")), id(Optional.empty())), id(listOf(Optional.empty(), Optional.of("d"))))),
+				id(listOf(listOf(listOf(Optional.of("e"), id(Optional.empty())), listOf(Optional.empty(), Optional.of("f"))),
+						listOf(id(listOf(id(Optional.of("g")), Optional.empty())), listOf(Optional.empty(), id(Optional.of("h")))))));
+	}
+
+	Node<String> tree() {
+		return Node.of("root",
+				Node.of("a", Node.leaf("a1"), Node.leaf("a2"), Node.of("a3", Node.leaf("a31"), Node.leaf("a32"))),
+				Node.of("b", Node.of("b1", Node.of("b11", Node.leaf("b111"), Node.leaf("b112"))), Node.leaf("b2")),
+				Node.of("c", Node.leaf(id("c1")), Node.of(id("c2"), Node.leaf(id("c21")))));
+	}
+
+	Map<Boolean, Map<Integer, Map<Character, Set<String>>>> nestedCollectors(List<String> words) {
+		return words.stream()
+				.collect(Collectors.partitioningBy(w -> w.length() > 3,
+						Collectors.groupingBy(String::length,
+								Collectors.groupingBy(w -> w.charAt(0),
+										Collectors.mapping(w -> w.toUpperCase(), Collectors.toSet())))));
+	}
+
+	TreeMap<String, Optional<Integer>> nestedCollectors2(List<String> words) {
+		return words.stream()
+				.collect(Collectors.groupingBy(w -> w.substring(0, 1), TreeMap::new,
+						Collectors.collectingAndThen(
+								Collectors.mapping(String::length, Collectors.maxBy(Comparator.naturalOrder())),
+								o -> o.map(l -> l * 2))));
+	}
+
+	Function<String, String> composed() {
+		return compose3(s -> s.trim(), s -> s.toLowerCase(), s -> s.isEmpty() ? s : s.substring(1));
+	}
+
+	int overloads(String s, Integer i) {
+		int a = apply(s, x -> x.length());
+		int b = apply(s, s, (x, y) -> x.length() + y.length());
+		int c = apply(i, (x, y) -> x + y);
+		int d = apply(i, i, x -> x * 2);
+		int e = apply(s, () -> 42);
+		String f = apply(s, x -> apply(x, x, (y, z) -> y + z.trim()));
+		Integer g = apply(apply(s, x -> x.length()), y -> apply(y, y, (u, v) -> apply(u, w -> w + v)));
+		return a + b + c + d + e + f.length() + g;
+	}
+
+	CompletableFuture<Map.Entry<String, List<Integer>>> futures(CompletableFuture<String> name, CompletableFuture<List<Integer>> values) {
+		return name.thenCompose(n -> values.thenApply(v -> entry(n, v)))
+				.thenCombine(CompletableFuture.supplyAsync(() -> listOf(1, 2)), (e, l) -> entry(e.getKey(), l))
+				.exceptionally(t -> entry("failed", List.of()))
+				.thenApply(e -> id(entry(id(e.getKey()), id(e.getValue()))));
+	}
+
+	Supplier<Stream<Map.Entry<String, Integer>>> lazyStreams(List<String> words) {
+		return lazy(() -> words.stream()
+				.flatMap(w -> Stream.of(entry(w, w.length()), entry(w.toUpperCase(), -w.length())))
+				.sorted(Map.Entry.<String, Integer> comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+				.map(e -> entry(id(e.getKey()), apply(e.getValue(), v -> v + 1))));
+	}
+
+	Optional<Map.Entry<Integer, String>> reduce(List<String> words) {
+		return words.stream()
+				.map(w -> entry(w.length(), w))
+				.reduce((a, b) -> apply(a, b, (x, y) -> x.getKey() >= y.getKey() ? x : y));
+	}
+}
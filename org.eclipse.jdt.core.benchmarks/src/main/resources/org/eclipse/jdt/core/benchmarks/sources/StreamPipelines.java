@@ -0,0 +1,142 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Code relying heavily on the type inference of generic method invocations and lambda expressions.
+ */
+public class StreamPipelines {
+
+	public record Order(String customer, String product, int quantity, double price) {
+		double total() {
+			return this.quantity * this.price;
+		}
+	}
+
+	public record Pair<A, B>(A first, B second) {
+		static <A, B> Pair<A, B> of(A first, B second) {
+			return new Pair<>(first, second);
+		}
+		<C> Pair<A, C> withSecond(Function<? super B, ? extends C> mapper) {
+			return new Pair<>(this.first, mapper.apply(this.second));
+		}
+	}
+
+	static <T, K> Map<K, List<T>> groupBy(List<T> elements, Function<? super T, ? extends K> classifier) {
+		return elements.stream().collect(Collectors.groupingBy(classifier, HashMap::new, Collectors.toList()));
+	}
+
+	static <T, R> List<R> mapAll(List<? extends T> elements, Function<? super T, ? extends R> mapper) {
+		return elements.stream().<R>map(mapper).collect(Collectors.toList());
+	}
+
+	static <T> Optional<T> firstMatch(Stream<T> stream, Predicate<? super T> predicate) {
+		return stream.filter(predicate).findFirst();
+	}
+
+	static <T, A, R> R collectAll(List<T> elements, Collector<? super T, A, R> collector) {
+		return elements.stream().collect(collector);
+	}
+
+	static <T extends Comparable<? super T>> List<T> sortedCopy(Iterable<? extends T> elements) {
+		List<T> copy = new ArrayList<>();
+		elements.forEach(copy::add);
+		copy.sort(Comparator.naturalOrder());
+		return copy;
+	}
+
+	static <K, V, R> Map<K, R> mapValues(Map<K, V> map, BiFunction<? super K, ? super V, ? extends R> mapper) {
+		return map.entrySet().stream()
+				.collect(Collectors.toMap(Map.Entry::getKey, e -> mapper.apply(e.getKey(), e.getValue()), (a, b) -> a, TreeMap::new));
+	}
+
+	static <T> Supplier<List<T>> memoize(Supplier<List<T>> supplier) {
+		List<List<T>> cache = new ArrayList<>(1);
+		return () -> {
+			if (cache.isEmpty())
+				cache.add(supplier.get());
+			return cache.get(0);
+		};
+	}
+
+	public Map<String, Double> revenueByCustomer(List<Order> orders) {
+		return orders.stream()
+				.collect(Collectors.groupingBy(Order::customer, TreeMap::new, Collectors.summingDouble(Order::total)));
+	}
+
+	public Map<String, Optional<Order>> largestOrderByProduct(List<Order> orders) {
+		return orders.stream()
+				.collect(Collectors.groupingBy(Order::product, Collectors.maxBy(Comparator.comparingDouble(Order::total))));
+	}
+
+	public List<Pair<String, Integer>> quantities(List<Order> orders) {
+		return orders.stream()
+				.map(o -> Pair.of(o.customer(), o.quantity()))
+				.sorted(Comparator.comparing((Pair<String, Integer> p) -> p.first()).thenComparing(Pair::second, Comparator.reverseOrder()))
+				.collect(Collectors.toList());
+	}
+
+	public Map<Boolean, Set<String>> partitionCustomers(List<Order> orders, double threshold) {
+		return orders.stream()
+				.collect(Collectors.partitioningBy(o -> o.total() > threshold, Collectors.mapping(Order::customer, Collectors.toSet())));
+	}
+
+	public String summary(List<Order> orders) {
+		return groupBy(orders, Order::customer).entrySet().stream()
+				.map(e -> Pair.of(e.getKey(), e.getValue()).withSecond(list -> list.stream().mapToDouble(Order::total).sum()))
+				.sorted(Comparator.comparing(Pair<String, Double>::second).reversed())
+				.map(p -> p.first() + '=' + String.format("%.2f", p.second())) //$NON-NLS-1$
+				.collect(Collectors.joining(", ", "[", "]")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	public List<String> products(List<Order> orders) {
+		Function<Order, String> product = Order::product;
+		return sortedCopy(mapAll(orders, product.andThen(String::toUpperCase)));
+	}
+
+	public Map<String, Integer> totalQuantities(List<Order> orders) {
+		return mapValues(groupBy(orders, Order::product), (k, v) -> v.stream().mapToInt(Order::quantity).sum());
+	}
+
+	public Optional<String> firstBigSpender(List<Order> orders) {
+		return firstMatch(orders.stream(), o -> o.total() > 1000).map(Order::customer);
+	}
+
+	public List<List<Integer>> triangles(int size) {
+		return IntStream.rangeClosed(1, size)
+				.mapToObj(i -> IntStream.rangeClosed(1, i).boxed().collect(Collectors.toList()))
+				.collect(Collectors.toList());
+	}
+
+	public long distinctPairs(List<Order> orders) {
+		return orders.stream()
+				.flatMap(a -> orders.stream().map(b -> Pair.of(a.customer(), b.customer())))
+				.filter(p -> !p.first().equals(p.second()))
+				.distinct()
+				.count();
+	}
+
+	public Map<String, List<String>> customersByProduct(List<Order> orders) {
+		return collectAll(orders, Collectors.groupingBy(Order::product, TreeMap::new,
+				Collectors.collectingAndThen(Collectors.mapping(Order::customer, Collectors.toList()), list -> sortedCopy(list))));
+	}
+
+	public Supplier<List<Order>> cachedLargeOrders(List<Order> orders) {
+		return memoize(() -> orders.stream().filter(o -> o.quantity() > 10).collect(Collectors.toList()));
+	}
+}
@@ -173,8 +173,8 @@ public class ClassFile implements TypeConstants, TypeIds {
 	public List<Object> bootstrapMethods = null;
 	public int methodCount;
 	public int methodCountOffset;
-	// pool managment
-	boolean isShared = false;
+	// pool managment, released by the thread writing the class file out
+	volatile boolean isShared = false;
 	// used to generate private access methods
 	// debug and stack map attributes
 	public int produceAttributes;
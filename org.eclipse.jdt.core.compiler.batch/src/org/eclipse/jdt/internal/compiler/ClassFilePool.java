@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,31 +13,46 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler;
 
-import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.lookup.ModuleBinding;
 import org.eclipse.jdt.internal.compiler.lookup.SourceTypeBinding;
 
+/**
+ * Pools the class files of a lookup environment, together with their byte arrays, constant pool
+ * caches and code stream, which keep the capacity they reached for the previous classes.
+ * <p>
+ * Each thread generating code acquires from a pool of its own, without synchronization. A class
+ * file is released by the thread that writes it out, which is usually another one: releasing it
+ * only makes it available again to the thread that acquired it.
+ * </p>
+ */
 public class ClassFilePool {
 	public static final int POOL_SIZE = 25; // need to have enough for 2 units
-	ClassFile[] classFiles;
+	final Map<Thread, ClassFile[]> classFiles;
 
 private ClassFilePool() {
 	// prevent instantiation
-	this.classFiles = new ClassFile[POOL_SIZE];
+	this.classFiles = new ConcurrentHashMap<>();
 }
 
 public static ClassFilePool newInstance() {
 	return new ClassFilePool();
 }
 
-public synchronized ClassFile acquire(SourceTypeBinding typeBinding) {
+private ClassFile[] threadPool() {
+	return this.classFiles.computeIfAbsent(Thread.currentThread(), thread -> new ClassFile[POOL_SIZE]);
+}
+
+public ClassFile acquire(SourceTypeBinding typeBinding) {
+	ClassFile[] pool = threadPool();
 	for (int i = 0; i < POOL_SIZE; i++) {
-		ClassFile classFile = this.classFiles[i];
+		ClassFile classFile = pool[i];
 		if (classFile == null) {
 			ClassFile newClassFile = new ClassFile(typeBinding);
-			this.classFiles[i] = newClassFile;
+			pool[i] = newClassFile;
 			newClassFile.isShared = true;
 			return newClassFile;
 		}
@@ -49,12 +64,13 @@ public synchronized ClassFile acquire(SourceTypeBinding typeBinding) {
 	}
 	return new ClassFile(typeBinding);
 }
-public synchronized ClassFile acquireForModule(ModuleBinding moduleBinding, CompilerOptions options) {
+public ClassFile acquireForModule(ModuleBinding moduleBinding, CompilerOptions options) {
+	ClassFile[] pool = threadPool();
 	for (int i = 0; i < POOL_SIZE; i++) {
-		ClassFile classFile = this.classFiles[i];
+		ClassFile classFile = pool[i];
 		if (classFile == null) {
 			ClassFile newClassFile = new ClassFile(moduleBinding, options);
-			this.classFiles[i] = newClassFile;
+			pool[i] = newClassFile;
 			newClassFile.isShared = true;
 			return newClassFile;
 		}
@@ -66,10 +82,10 @@ public synchronized ClassFile acquireForModule(ModuleBinding moduleBinding, Comp
 	}
 	return new ClassFile(moduleBinding, options);
 }
-public synchronized void release(ClassFile classFile) {
+public void release(ClassFile classFile) {
 	classFile.isShared = false;
 }
 public void reset() {
-	Arrays.fill(this.classFiles, null);
+	this.classFiles.clear();
 }
 }
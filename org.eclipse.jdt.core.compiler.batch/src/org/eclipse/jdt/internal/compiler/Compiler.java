@@ -28,6 +28,10 @@ import org.eclipse.jdt.internal.compiler.util.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class Compiler implements ITypeRequestor, ProblemSeverities {
 	public Parser parser;
@@ -36,6 +40,7 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	public ProblemReporter problemReporter;
 	protected PrintWriter out; // output for messages that are not sent to problemReporter
 	public CompilerStats stats;
+	public ICompilerMetricsRequestor metricsRequestor; // null unless the measurements of the units are collected
 	public CompilationProgress progress;
 	public int remainingIterations = 1;
 
@@ -57,6 +62,14 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	public int annotationProcessorStartIndex = 0;
 	public ReferenceBinding[] referenceBindings;
 	public boolean useSingleThread = true; // by default the compiler will not use worker threads to read/process/write
+	public int parseParallelism = 1; // number of threads parsing the method bodies of the next units before they are processed
+
+	// units are parsed ahead in batches of PARSE_AHEAD_UNITS per parsing thread, so that only the method bodies of a batch are held in memory
+	private static final int PARSE_AHEAD_UNITS = 16;
+	private ExecutorService parsers;
+	private ThreadLocal<Parser> workerParsers;
+	private int parsedAheadEnd; // index of the first unit which was not parsed ahead
+	private Map<CompilationUnitDeclaration, Throwable> parseFailures; // rethrown when their unit is processed
 
 	// number of initial units parsed at once (-1: none)
 
@@ -317,6 +330,7 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		CompilationResult unitResult =
 			new CompilationResult(sourceUnit, this.totalUnits, this.totalUnits, this.options.maxProblemsPerUnit);
 		unitResult.checkSecondaryTypes = true;
+		UnitStats unitStats = unitStats(unitResult);
 		try {
 			if (this.options.verbose) {
 				String count = String.valueOf(this.totalUnits + 1);
@@ -330,11 +344,14 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 			}
 			// diet parsing for large collection of unit
 			CompilationUnitDeclaration parsedUnit;
+			long unitParseStart = unitStats == null ? 0 : System.nanoTime();
 			if (this.totalUnits < this.parseThreshold) {
 				parsedUnit = this.parser.parse(sourceUnit, unitResult);
 			} else {
 				parsedUnit = this.parser.dietParse(sourceUnit, unitResult);
 			}
+			if (unitStats != null)
+				unitStats.parseTime += System.nanoTime() - unitParseStart;
 			// initial type binding creation
 			this.lookupEnvironment.buildTypeBindings(parsedUnit, accessRestriction);
 			addCompilationUnit(sourceUnit, parsedUnit);
@@ -423,6 +440,8 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 
 	public void compile(ICompilationUnit[] sourceUnits) {
 		compile(sourceUnits, false);
+		if (this.metricsRequestor != null)
+			this.metricsRequestor.acceptCompilationStats(this.stats);
 	}
 	/**
 	 * General API
@@ -554,6 +573,7 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	protected void processCompiledUnits(int startingIndex, boolean lastRound) throws java.lang.Error {
 		CompilationUnitDeclaration unit = null;
 		ProcessTaskManager processingTask = null;
+		this.parsedAheadEnd = startingIndex;
 		try {
 			if (this.useSingleThread) {
 				// process all units (some more could be injected in the loop by the lookup environment)
@@ -583,6 +603,7 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 
 					reportWorked(1, i);
 					this.stats.lineCount += unit.compilationResult.lineSeparatorPositions.length;
+					acceptUnitStats(unit.compilationResult);
 					long acceptStart = System.currentTimeMillis();
 					this.requestor.acceptResult(unit.compilationResult.tagAsAccepted());
 					this.stats.generateTime += System.currentTimeMillis() - acceptStart; // record accept time as part of generation
@@ -611,6 +632,7 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 					if (unit == null) break;
 					reportWorked(1, acceptedCount++);
 					this.stats.lineCount += unit.compilationResult.lineSeparatorPositions.length;
+					acceptUnitStats(unit.compilationResult);
 					this.requestor.acceptResult(unit.compilationResult.tagAsAccepted());
 					if (this.options.verbose)
 						this.out.println(
@@ -642,8 +664,11 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		} finally {
 			if (processingTask != null) {
 				processingTask.shutdown();
+				this.stats.processingStalls += processingTask.getProducerStalls();
+				this.stats.writingStalls += processingTask.getConsumerStalls();
 				processingTask = null;
 			}
+			stopParsers();
 			reset();
 			this.annotationProcessorStartIndex  = 0;
 			this.stats.endTime = System.currentTimeMillis();
@@ -651,6 +676,26 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		}
 	}
 
+	/*
+	 * Answer the measurements of the given unit, or null if they are not collected.
+	 */
+	private UnitStats unitStats(CompilationResult unitResult) {
+		if (this.metricsRequestor == null)
+			return null;
+		if (unitResult.stats == null)
+			unitResult.stats = new UnitStats();
+		return unitResult.stats;
+	}
+
+	private void acceptUnitStats(CompilationResult unitResult) {
+		if (this.metricsRequestor == null || unitResult.stats == null)
+			return;
+		unitResult.stats.lineCount = unitResult.lineSeparatorPositions.length;
+		unitResult.stats.problemCount = unitResult.problemCount;
+		this.metricsRequestor.acceptUnitStats(unitResult, unitResult.stats);
+		unitResult.stats = null;
+	}
+
 	public synchronized CompilationUnitDeclaration getUnitToProcess(int next) {
 		if (next < this.totalUnits) {
 			CompilationUnitDeclaration unit = this.unitsToProcess[next];
@@ -843,6 +888,9 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 					// diet parsing for large collection of units
 					CompilationUnitDeclaration parsedUnit;
 					unitResult = new CompilationResult(sourceUnits[i], i, maxUnits, this.options.maxProblemsPerUnit);
+					UnitStats unitStats = unitStats(unitResult);
+					long allocationStart = unitStats == null ? 0 : UnitStats.currentThreadAllocatedBytes();
+					long unitParseStart = unitStats == null ? 0 : System.nanoTime();
 					long parseStart = System.currentTimeMillis();
 					if (this.totalUnits < this.parseThreshold) {
 						parsedUnit = this.parser.parse(sourceUnits[i], unitResult);
@@ -851,9 +899,15 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 					}
 					long resolveStart = System.currentTimeMillis();
 					this.stats.parseTime += resolveStart - parseStart;
+					long unitResolveStart = unitStats == null ? 0 : System.nanoTime();
 					// initial type binding creation
 					this.lookupEnvironment.buildTypeBindings(parsedUnit, null /*no access restriction*/);
 					this.stats.resolveTime += System.currentTimeMillis() - resolveStart;
+					if (unitStats != null) {
+						unitStats.parseTime += unitResolveStart - unitParseStart;
+						unitStats.resolveTime += System.nanoTime() - unitResolveStart;
+						unitStats.allocated(allocationStart);
+					}
 					addCompilationUnit(sourceUnits[i], parsedUnit);
 					ImportReference currentPackage = parsedUnit.currentPackage;
 					if (currentPackage != null) {
@@ -885,12 +939,127 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	 */
 	public void process(CompilationUnitDeclaration unit, int i) {
 		this.lookupEnvironment.unitBeingCompleted = unit;
+		if (this.parseParallelism > 1) {
+			if (i >= this.parsedAheadEnd)
+				parseMethodBodies(i);
+			rethrowParseFailure(unit);
+		}
+		UnitStats unitStats = unit.compilationResult.stats;
+		long allocationStart = unitStats == null ? 0 : UnitStats.currentThreadAllocatedBytes();
+		long unitParseStart = unitStats == null ? 0 : System.nanoTime();
 		long parseStart = System.currentTimeMillis();
 
-		this.parser.getMethodBodies(unit);
+		this.parser.getMethodBodies(unit); // nothing left to do if parsed ahead
+
+		this.stats.parseTime += System.currentTimeMillis() - parseStart;
+		if (unitStats != null)
+			unitStats.parseTime += System.nanoTime() - unitParseStart;
 
+		processMethodBodies(unit);
+		if (unitStats != null)
+			unitStats.allocated(allocationStart);
+	}
+
+	/*
+	 * Parse the method bodies of the next units from the given index on, with a parser per thread of a pool
+	 * of parseParallelism threads, so that processing them one after the other only has to resolve, analyze
+	 * and generate them. Only a bounded batch of units is parsed ahead, and it is fully parsed before any of
+	 * them is processed, so a unit is never parsed while another one is resolved.
+	 * The problems of a unit are recorded in its own result, so they are the same as when parsing serially.
+	 * A failure is recorded for its unit and rethrown once the unit is processed, so that the previous units
+	 * are still processed as when parsing serially.
+	 */
+	private void parseMethodBodies(int startingIndex) {
+		int end = Math.min(this.totalUnits, startingIndex + PARSE_AHEAD_UNITS * this.parseParallelism);
+		this.parsedAheadEnd = end;
+		if (end - startingIndex < 2)
+			return;
+		long parseStart = System.currentTimeMillis();
+		if (this.parsers == null) {
+			this.parsers = Executors.newFixedThreadPool(this.parseParallelism, runnable -> {
+				Thread worker = new Thread(runnable, "Compiler Parsing Worker"); //$NON-NLS-1$
+				worker.setDaemon(true);
+				return worker;
+			});
+			this.workerParsers = ThreadLocal.withInitial(this::newWorkerParser);
+			this.parseFailures = new HashMap<>();
+		}
+		List<CompilationUnitDeclaration> units = new ArrayList<>(end - startingIndex);
+		List<Future<?>> tasks = new ArrayList<>(end - startingIndex);
+		ThreadLocal<Parser> unitParsers = this.workerParsers;
+		for (int i = startingIndex; i < end; i++) {
+			CompilationUnitDeclaration unit = this.unitsToProcess[i];
+			if (unit == null || unit.compilationResult.hasBeenAccepted)
+				continue;
+			units.add(unit);
+			tasks.add(this.parsers.submit(() -> {
+				UnitStats unitStats = unit.compilationResult.stats;
+				long unitParseStart = unitStats == null ? 0 : System.nanoTime();
+				try {
+					unitParsers.get().getMethodBodies(unit);
+				} finally {
+					if (unitStats != null)
+						unitStats.parseTime += System.nanoTime() - unitParseStart;
+				}
+			}));
+		}
+		for (int i = 0, length = tasks.size(); i < length; i++) {
+			while (true) {
+				try {
+					tasks.get(i).get();
+					break;
+				} catch (InterruptedException ignore) {
+					// ignore
+				} catch (ExecutionException e) {
+					this.parseFailures.put(units.get(i), e.getCause());
+					break;
+				}
+			}
+		}
+		this.stats.parseTime += System.currentTimeMillis() - parseStart;
+	}
+
+	/*
+	 * Rethrow the failure of parsing ahead the method bodies of the given unit, if any.
+	 */
+	private void rethrowParseFailure(CompilationUnitDeclaration unit) {
+		if (this.parseFailures == null)
+			return;
+		Throwable failure = this.parseFailures.remove(unit);
+		if (failure instanceof Error)
+			throw (Error) failure;
+		if (failure != null)
+			throw (RuntimeException) failure;
+	}
+
+	/*
+	 * Stop the threads parsing ahead. All their tasks are done, so none of them is interrupted.
+	 */
+	private void stopParsers() {
+		if (this.parsers == null)
+			return;
+		this.parsers.shutdown();
+		this.parsers = null;
+		this.workerParsers = null;
+		this.parseFailures = null;
+	}
+
+	/**
+	 * Answer a new parser for a thread parsing method bodies. It reports to its own problem
+	 * reporter, so that it can be used concurrently with the compiler's parser.
+	 */
+	protected Parser newWorkerParser() {
+		ProblemReporter workerProblemReporter = new ProblemReporter(this.problemReporter.policy, this.options, this.problemReporter.problemFactory);
+		return new Parser(workerProblemReporter, this.options.parseLiteralExpressionsAsConstants);
+	}
+
+	/*
+	 * Resolve, analyze and generate a unit which already has its method bodies.
+	 */
+	private void processMethodBodies(CompilationUnitDeclaration unit) {
+		UnitStats unitStats = unit.compilationResult.stats;
+		long unitResolveStart = unitStats == null ? 0 : System.nanoTime();
 		long resolveStart = System.currentTimeMillis();
-		this.stats.parseTime += resolveStart - parseStart;
 
 		// fault in fields & methods
 		if (unit.scope != null)
@@ -905,12 +1074,14 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 
 		long analyzeStart = System.currentTimeMillis();
 		this.stats.resolveTime += analyzeStart - resolveStart;
+		long unitAnalyzeStart = unitStats == null ? 0 : System.nanoTime();
 
 		//No need of analysis or generation of code if statements are not required
 		if (!this.options.ignoreMethodBodies) unit.analyseCode(); // flow analysis
 
 		long generateStart = System.currentTimeMillis();
 		this.stats.analyzeTime += generateStart - analyzeStart;
+		long unitGenerateStart = unitStats == null ? 0 : System.nanoTime();
 
 		if (!this.options.ignoreMethodBodies) unit.generateCode(); // code generation
 
@@ -922,6 +1093,11 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		unit.finalizeProblems();
 
 		this.stats.generateTime += System.currentTimeMillis() - generateStart;
+		if (unitStats != null) {
+			unitStats.resolveTime += unitAnalyzeStart - unitResolveStart;
+			unitStats.analyzeTime += unitGenerateStart - unitAnalyzeStart;
+			unitStats.generateTime += System.nanoTime() - unitGenerateStart;
+		}
 
 		// refresh the total number of units known at this stage
 		unit.compilationResult.totalUnitsKnown = this.totalUnits;
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2024 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler;
+
+import org.eclipse.jdt.internal.compiler.impl.CompilerStats;
+import org.eclipse.jdt.internal.compiler.impl.UnitStats;
+
+/**
+ * A callback interface for receiving the measurements of a compilation.
+ * <p>
+ * Collecting the measurements of the units has a cost, they are only collected when
+ * the compiler has a metrics requestor.
+ * </p>
+ */
+public interface ICompilerMetricsRequestor {
+
+	/**
+	 * Accept the measurements of a unit, just before its result is accepted.
+	 */
+	void acceptUnitStats(CompilationResult result, UnitStats stats);
+
+	/**
+	 * Accept the measurements of the whole compilation, after all the units were accepted.
+	 */
+	void acceptCompilationStats(CompilerStats stats);
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 IBM Corporation and others.
+ * Copyright (c) 2008, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,10 @@
 
 package org.eclipse.jdt.internal.compiler;
 
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
 import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
 import org.eclipse.jdt.internal.compiler.util.Messages;
 
@@ -21,26 +25,28 @@ public class ProcessTaskManager implements Runnable {
 
 	Compiler compiler;
 	private int unitIndex;
-	private Thread processingThread;
+	private volatile Thread processingThread;
 	CompilationUnitDeclaration unitToProcess;
-	private Throwable caughtException;
-
-	// queue
-	volatile int currentIndex, availableIndex, size, sleepCount;
-	CompilationUnitDeclaration[] units;
-
-	public static final int PROCESSED_QUEUE_SIZE = 100;
+	private volatile Throwable caughtException;
+
+	// single producer (processing thread), single consumer (writing thread) queue of processed units
+	private final ConcurrentLinkedQueue<CompilationUnitDeclaration> processedUnits = new ConcurrentLinkedQueue<>();
+	private final AtomicLong queuedBytes = new AtomicLong();
+	private volatile Thread waitingProducer, waitingConsumer;
+	private volatile long producerStalls, consumerStalls;
+
+	/**
+	 * Capacity of the processed units queue, in bytes of generated class files.
+	 */
+	public static final long PROCESSED_QUEUE_CAPACITY = 8 * 1024 * 1024;
+	// units producing little or no class file data (e.g. -d none, -proc:only) must still be accounted for
+	static final int MIN_UNIT_SIZE = 1024;
+	static final long STALL_TIMEOUT = 100 * 1000 * 1000; // 100ms in nanoseconds - guards against missed wakeups
 
 public ProcessTaskManager(Compiler compiler, int startingIndex) {
 	this.compiler = compiler;
 	this.unitIndex = startingIndex;
 
-	this.currentIndex = 0;
-	this.availableIndex = 0;
-	this.size = PROCESSED_QUEUE_SIZE;
-	this.sleepCount = 0; // 0 is no one, +1 is the processing thread & -1 is the writing/main thread
-	this.units = new CompilationUnitDeclaration[this.size];
-
 	synchronized (this) {
 		this.processingThread = new Thread(this, "Compiler Processing Task"); //$NON-NLS-1$
 		this.processingThread.setDaemon(true);
@@ -48,69 +54,84 @@ public ProcessTaskManager(Compiler compiler, int startingIndex) {
 	}
 }
 
+// answer the number of bytes a processed unit accounts for in the queue
+private static long sizeOf(CompilationUnitDeclaration unit) {
+	long size = MIN_UNIT_SIZE;
+	for (ClassFile classFile : unit.compilationResult.getClassFiles())
+		size += classFile.headerOffset + classFile.contentsOffset;
+	return size;
+}
+
 // add unit to the queue - wait if no space is available
-private synchronized void addNextUnit(CompilationUnitDeclaration newElement) {
-	while (this.units[this.availableIndex] != null) {
-		//System.out.print('a');
-		//if (this.sleepCount < 0) throw new IllegalStateException(Integer.valueOf(this.sleepCount).toString());
-		this.sleepCount = 1;
-		try {
-			wait(250);
-		} catch (InterruptedException ignore) {
-			// ignore
-		}
-		this.sleepCount = 0;
+private void addNextUnit(CompilationUnitDeclaration newElement) {
+	long size = sizeOf(newElement);
+	// an empty queue always accepts the unit, whatever its size
+	if (this.queuedBytes.get() + size > PROCESSED_QUEUE_CAPACITY && !this.processedUnits.isEmpty())
+		this.producerStalls++;
+	while (this.queuedBytes.get() + size > PROCESSED_QUEUE_CAPACITY && !this.processedUnits.isEmpty()) {
+		if (this.processingThread == null) return; // shutting down
+		this.waitingProducer = Thread.currentThread();
+		if (this.queuedBytes.get() + size > PROCESSED_QUEUE_CAPACITY && !this.processedUnits.isEmpty())
+			LockSupport.parkNanos(this, STALL_TIMEOUT);
+		this.waitingProducer = null;
 	}
 
-	this.units[this.availableIndex++] = newElement;
-	if (this.availableIndex >= this.size)
-		this.availableIndex = 0;
-	if (this.sleepCount <= -1)
-		notify(); // wake up writing thread to accept next unit - could be the last one - must avoid deadlock
+	this.queuedBytes.addAndGet(size);
+	this.processedUnits.add(newElement);
+	wakeUp(this.waitingConsumer); // wake up writing thread to accept next unit - could be the last one - must avoid deadlock
 }
 
 public CompilationUnitDeclaration removeNextUnit() throws Error {
-	CompilationUnitDeclaration next = null;
-	boolean yield = false;
-	synchronized (this) {
-		next = this.units[this.currentIndex];
-		if (next == null || this.caughtException != null) {
-			do {
-				if (this.processingThread == null) {
-					if (this.caughtException != null) {
-						// rethrow the caught exception from the processingThread in the main compiler thread
-						if (this.caughtException instanceof Error)
-							throw (Error) this.caughtException;
-						throw (RuntimeException) this.caughtException;
-					}
-					return null;
-				}
-				//System.out.print('r');
-				//if (this.sleepCount > 0) throw new IllegalStateException(Integer.valueOf(this.sleepCount).toString());
-				this.sleepCount = -1;
-				try {
-					wait(100);
-				} catch (InterruptedException ignore) {
-					// ignore
-				}
-				this.sleepCount = 0;
-				next = this.units[this.currentIndex];
-			} while (next == null);
+	CompilationUnitDeclaration next;
+	boolean stalled = false;
+	while (this.caughtException != null || (next = this.processedUnits.poll()) == null) {
+		if (this.processingThread == null) {
+			if (this.caughtException != null) {
+				// rethrow the caught exception from the processingThread in the main compiler thread
+				if (this.caughtException instanceof Error)
+					throw (Error) this.caughtException;
+				throw (RuntimeException) this.caughtException;
+			}
+			// the last units may have been added right before the processing thread terminated
+			next = this.processedUnits.poll();
+			if (next == null)
+				return null;
+			break;
 		}
-
-		this.units[this.currentIndex++] = null;
-		if (this.currentIndex >= this.size)
-			this.currentIndex = 0;
-		if (this.sleepCount >= 1 && ++this.sleepCount > 4) {
-			notify(); // wake up processing thread to add next unit but only after removing some elements first
-			yield = this.sleepCount > 8;
+		if (!stalled) {
+			this.consumerStalls++;
+			stalled = true;
 		}
+		this.waitingConsumer = Thread.currentThread();
+		if (this.processingThread != null && this.processedUnits.isEmpty())
+			LockSupport.parkNanos(this, STALL_TIMEOUT);
+		this.waitingConsumer = null;
 	}
-	if (yield)
-		Thread.yield();
+
+	this.queuedBytes.addAndGet(-sizeOf(next));
+	wakeUp(this.waitingProducer); // wake up processing thread to add next unit
 	return next;
 }
 
+private static void wakeUp(Thread waitingThread) {
+	if (waitingThread != null)
+		LockSupport.unpark(waitingThread);
+}
+
+/**
+ * Answer how many times the processing thread had to wait for the writing thread to free some queue capacity.
+ */
+public long getProducerStalls() {
+	return this.producerStalls;
+}
+
+/**
+ * Answer how many times the writing thread had to wait for the processing thread to provide a unit.
+ */
+public long getConsumerStalls() {
+	return this.consumerStalls;
+}
+
 @Override
 public void run() {
 	boolean noAnnotations = this.compiler.annotationProcessorManager == null;
@@ -125,6 +146,7 @@ public void run() {
 				this.unitToProcess = this.compiler.getUnitToProcess(this.unitIndex);
 				if (this.unitToProcess == null) {
 					this.processingThread = null;
+					wakeUp(this.waitingConsumer);
 					return;
 				}
 				index = this.unitIndex++;
@@ -155,6 +177,7 @@ public void run() {
 				this.processingThread = null;
 				this.caughtException = e;
 			}
+			wakeUp(this.waitingConsumer);
 			return;
 		}
 	}
@@ -167,7 +190,7 @@ public void shutdown() {
 			if (this.processingThread != null) {
 				t = this.processingThread;
 				this.processingThread = null;
-				notifyAll();
+				wakeUp(this.waitingProducer);
 			}
 		}
 		if (t != null)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 IBM Corporation and others.
+ * Copyright (c) 2008, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,19 +26,26 @@ public class ReadManager implements Runnable {
 	Thread[] readingThreads;
 	char[] readInProcessMarker = new char[0];
 	int sleepingThreadCount;
+	long cachedBytes; // size of the contents read ahead and not yet consumed
 	private Throwable caughtException;
 
 	static final int START_CUSHION = 5;
 	public static final int THRESHOLD = 10;
-	static final int CACHE_SIZE = 15; // do not waste memory by keeping too many files in memory
+	static final int CACHE_SIZE = 100; // maximum number of files read ahead, their total size is bounded by READ_AHEAD_CAPACITY
+	static final int MAX_THREADS = 15;
+	/**
+	 * Maximum size in bytes of the file contents read ahead of the parser. Reading threads wait
+	 * for the parser to consume some contents when it is reached.
+	 */
+	public static final long READ_AHEAD_CAPACITY = 16 * 1024 * 1024;
 
 public ReadManager(ICompilationUnit[] files, int length) {
 	// start the background threads to read the file's contents
 	int threadCount = Runtime.getRuntime().availableProcessors() + 1;
 	if (threadCount < 2) {
 		threadCount = 0;
-	} else if (threadCount > CACHE_SIZE) {
-		threadCount = CACHE_SIZE;
+	} else if (threadCount > MAX_THREADS) {
+		threadCount = MAX_THREADS;
 	}
 
 	if (threadCount > 0) {
@@ -51,6 +58,7 @@ public ReadManager(ICompilationUnit[] files, int length) {
 			this.readyToReadPosition = 0;
 			this.nextAvailablePosition = 0;
 			this.sleepingThreadCount = 0;
+			this.cachedBytes = 0;
 			this.readingThreads = new Thread[threadCount];
 			for (int i = threadCount; --i >= 0;) {
 				this.readingThreads[i] = new Thread(this, "Compiler Source File Reader"); //$NON-NLS-1$
@@ -95,6 +103,7 @@ public char[] getContents(ICompilationUnit unit) throws Error {
 				result = this.contentsRead[this.readyToReadPosition];
 			}
 			// free spot for next file
+			this.cachedBytes -= sizeOf(result);
 			this.filesRead[this.readyToReadPosition] = null;
 			this.contentsRead[this.readyToReadPosition] = null;
 			if (++this.readyToReadPosition >= this.contentsRead.length)
@@ -120,6 +129,7 @@ public char[] getContents(ICompilationUnit unit) throws Error {
 				this.nextAvailablePosition = 0;
 				this.filesRead = new ICompilationUnit[CACHE_SIZE];
 				this.contentsRead = new char[CACHE_SIZE][];
+				this.cachedBytes = 0;
 				notifyAll();
 			}
 		}
@@ -141,7 +151,9 @@ public void run() {
 			synchronized (this) {
 				if (this.readingThreads == null) return;
 
-				while (this.filesRead[this.nextAvailablePosition] != null) {
+				// back-pressure: wait for a free spot, and for the parser to consume enough contents
+				while (this.filesRead[this.nextAvailablePosition] != null
+						|| (this.cachedBytes >= READ_AHEAD_CAPACITY && this.nextAvailablePosition != this.readyToReadPosition)) {
 					this.sleepingThreadCount++;
 					try {
 						wait(250); // wait until a spot in contents is available
@@ -165,6 +177,7 @@ public void run() {
 					if (this.contentsRead[position] == null) // wake up main thread which is waiting for this file
 						notifyAll();
 					this.contentsRead[position] = result;
+					this.cachedBytes += sizeOf(result);
 				}
 			}
 		}
@@ -177,6 +190,10 @@ public void run() {
 	}
 }
 
+private static long sizeOf(char[] contents) {
+	return 2L * contents.length;
+}
+
 public synchronized void shutdown() {
 	this.readingThreads = null; // mark the read manager as shutting down so that the reading threads stop
 	notifyAll();
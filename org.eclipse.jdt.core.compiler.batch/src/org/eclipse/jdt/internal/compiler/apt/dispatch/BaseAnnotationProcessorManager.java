@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 BEA Systems, Inc.
+ * Copyright (c) 2007, 2024 BEA Systems, Inc.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -58,6 +58,7 @@ public abstract class BaseAnnotationProcessorManager extends AbstractAnnotationP
 	// Tracing
 	protected boolean _printProcessorInfo = false;
 	protected boolean _printRounds = false;
+	protected boolean _printProcessorTime = false;
 	protected int _round;
 
 	/* (non-Javadoc)
@@ -164,11 +165,12 @@ public abstract class BaseAnnotationProcessorManager extends AbstractAnnotationP
 		PrintWriter out = this._out; // closable resource not manages in this class
 		PrintWriter traceProcessorInfo = this._printProcessorInfo ? out : null;
 		PrintWriter traceRounds = this._printRounds ? out : null;
+		PrintWriter traceProcessorTime = this._printProcessorTime ? out : null;
 		if (traceRounds != null) {
 			traceRounds.println("Round " + ++this._round + ':'); //$NON-NLS-1$
 		}
 		RoundDispatcher dispatcher = new RoundDispatcher(
-				this, roundEnv, roundEnv.getRootAnnotations(), traceProcessorInfo, traceRounds);
+				this, roundEnv, roundEnv.getRootAnnotations(), traceProcessorInfo, traceRounds, traceProcessorTime);
 		dispatcher.round();
 		if (this._isFirstRound) {
 			this._isFirstRound = false;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2023 BEA Systems, Inc.
+ * Copyright (c) 2007, 2024 BEA Systems, Inc.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -81,6 +81,7 @@ public abstract class BaseProcessingEnvImpl implements ProcessingEnvironment {
 
 	public void addNewClassFile(ReferenceBinding binding) {
 		this._addedClassFiles.add(binding);
+		((ElementsImpl) this._elementUtils).resetMissingTypes();
 	}
 
 	public Compiler getCompiler() {
@@ -183,6 +184,7 @@ public abstract class BaseProcessingEnvImpl implements ProcessingEnvironment {
 		this._addedUnits.clear();
 		this._addedClassFiles.clear();
 		this._deletedUnits.clear();
+		((ElementsImpl) this._elementUtils).resetMissingTypes();
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2023 IBM Corporation and others.
+ * Copyright (c) 2005, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -113,6 +113,9 @@ public class BatchAnnotationProcessorManager extends BaseAnnotationProcessorMana
 			else if ("-XprintRounds".equals(option)) { //$NON-NLS-1$
 				this._printRounds = true;
 			}
+			else if ("-XprintProcessorTime".equals(option)) { //$NON-NLS-1$
+				this._printProcessorTime = true;
+			}
 			else if ("-processor".equals(option)) { //$NON-NLS-1$
 				commandLineProcessors = new ArrayList<>();
 				String procs = commandLineArguments[++i];
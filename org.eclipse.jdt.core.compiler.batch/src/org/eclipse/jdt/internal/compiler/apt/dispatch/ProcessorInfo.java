@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2011 BEA Systems, Inc.
+ * Copyright (c) 2006, 2024 BEA Systems, Inc.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -46,6 +46,13 @@ public class ProcessorInfo {
 	private final boolean _supportsStar;
 	private boolean _hasBeenCalled;
 
+	/**
+	 * Nanoseconds spent in {@link Processor#process} so far, only measured when the time of
+	 * the processors is traced. They are only converted to milliseconds when printed, not to
+	 * lose the fraction of each call.
+	 */
+	long _processTime;
+
 	/**
 	 * Create a ProcessorInfo wrapping a particular Processor. The Processor must already have been
 	 * initialized (that is,
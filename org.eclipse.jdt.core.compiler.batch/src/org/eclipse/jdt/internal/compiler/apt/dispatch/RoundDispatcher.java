@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 BEA Systems, Inc.
+ * Copyright (c) 2006, 2024 BEA Systems, Inc.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,6 +36,7 @@ public class RoundDispatcher {
 	private boolean _searchForStar = false;
 	private final PrintWriter _traceProcessorInfo;
 	private final PrintWriter _traceRounds;
+	private final PrintWriter _traceProcessorTime;
 
 	/**
 	 * Processors discovered so far.  This list may grow during the
@@ -56,6 +57,21 @@ public class RoundDispatcher {
 			Set<TypeElement> rootAnnotations,
 			PrintWriter traceProcessorInfo,
 			PrintWriter traceRounds)
+	{
+		this(provider, env, rootAnnotations, traceProcessorInfo, traceRounds, null);
+	}
+
+	/**
+	 * @param traceProcessorTime a PrintWriter that the time spent in each call of a processor
+	 * will be sent to, or null if timing is not desired.
+	 */
+	public RoundDispatcher(
+			IProcessorProvider provider,
+			RoundEnvironment env,
+			Set<TypeElement> rootAnnotations,
+			PrintWriter traceProcessorInfo,
+			PrintWriter traceRounds,
+			PrintWriter traceProcessorTime)
 	{
 		this._provider = provider;
 		this._processors = provider.getDiscoveredProcessors();
@@ -63,6 +79,7 @@ public class RoundDispatcher {
 		this._unclaimedAnnotations = new HashSet<>(rootAnnotations);
 		this._traceProcessorInfo = traceProcessorInfo;
 		this._traceRounds = traceRounds;
+		this._traceProcessorTime = traceProcessorTime;
 	}
 
 	/**
@@ -138,7 +155,24 @@ public class RoundDispatcher {
 			boolean shouldCall = pi.computeSupportedAnnotations(
 					this._unclaimedAnnotations, annotationsToProcess);
 			if (shouldCall) {
+				long start = null != this._traceProcessorTime ? System.nanoTime() : 0;
 				boolean claimed = pi._processor.process(annotationsToProcess, this._roundEnv);
+				if (null != this._traceProcessorTime) {
+					long time = System.nanoTime() - start;
+					pi._processTime += time;
+					StringBuilder sb = new StringBuilder();
+					sb.append("Processor "); //$NON-NLS-1$
+					sb.append(pi._processor.getClass().getName());
+					sb.append(": "); //$NON-NLS-1$
+					sb.append(time / 1000000);
+					sb.append(" ms"); //$NON-NLS-1$
+					if (this._roundEnv.processingOver()) {
+						sb.append(", "); //$NON-NLS-1$
+						sb.append(pi._processTime / 1000000);
+						sb.append(" ms in all rounds"); //$NON-NLS-1$
+					}
+					this._traceProcessorTime.println(sb.toString());
+				}
 				if (null != this._traceProcessorInfo && !this._roundEnv.processingOver()) {
 					StringBuilder sb = new StringBuilder();
 					sb.append("Processor "); //$NON-NLS-1$
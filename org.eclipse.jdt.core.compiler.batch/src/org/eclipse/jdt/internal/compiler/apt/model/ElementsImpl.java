@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2023 BEA Systems, Inc. and others
+ * Copyright (c) 2006, 2024 BEA Systems, Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,7 @@ import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
 
 import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.Compiler;
 import org.eclipse.jdt.internal.compiler.apt.dispatch.BaseProcessingEnvImpl;
 import org.eclipse.jdt.internal.compiler.ast.AbstractMethodDeclaration;
 import org.eclipse.jdt.internal.compiler.ast.FieldDeclaration;
@@ -76,6 +77,16 @@ public class ElementsImpl implements Elements {
 
 	protected final BaseProcessingEnvImpl _env;
 
+	/*
+	 * Names that getTypeElement(CharSequence) could not resolve. Processors probe the same optional
+	 * types for every element and every round, and each miss asks the name environment again (once
+	 * per module on 9+). The names are forgotten when a unit or a class file is added, or at the
+	 * end of the round, since either could declare them.
+	 */
+	private final Set<String> _missingTypeNames = new HashSet<>();
+	private Compiler _missingTypeNamesCompiler;
+	private int _missingTypeNamesUnits;
+
 	/*
 	 * The processing env creates and caches an ElementsImpl.  Other clients should
 	 * not create their own; they should ask the env for it.
@@ -628,8 +639,19 @@ public class ElementsImpl implements Elements {
 	 */
 	@Override
 	public TypeElement getTypeElement(CharSequence name) {
+		String typeName = name.toString();
+		if (isMissingType(typeName)) {
+			return null;
+		}
+		TypeElement element = getTypeElement(CharOperation.splitOn('.', typeName.toCharArray()));
+		if (element == null) {
+			addMissingType(typeName);
+		}
+		return element;
+	}
+
+	private TypeElement getTypeElement(final char[][] compoundName) {
 		LookupEnvironment le = this._env.getLookupEnvironment();
-		final char[][] compoundName = CharOperation.splitOn('.', name.toString().toCharArray());
 		ReferenceBinding binding = le.getType(compoundName);
 		// If we didn't find the binding, maybe it's a nested type;
 		// try finding the top-level type and then working downwards.
@@ -663,6 +685,32 @@ public class ElementsImpl implements Elements {
 		return new TypeElementImpl(this._env, binding, null);
 	}
 
+	/**
+	 * Has <code>name</code> been looked up without success since the last unit was added?
+	 */
+	protected boolean isMissingType(String name) {
+		Compiler compiler = this._env.getCompiler();
+		if (compiler != this._missingTypeNamesCompiler || compiler.totalUnits != this._missingTypeNamesUnits) {
+			this._missingTypeNames.clear();
+			this._missingTypeNamesCompiler = compiler;
+			this._missingTypeNamesUnits = compiler.totalUnits;
+			return false;
+		}
+		return this._missingTypeNames.contains(name);
+	}
+
+	protected void addMissingType(String name) {
+		this._missingTypeNames.add(name);
+	}
+
+	/**
+	 * Forget the names that could not be resolved, because types may have been added
+	 * to the lookup environment.
+	 */
+	public void resetMissingTypes() {
+		this._missingTypeNames.clear();
+	}
+
 	/* (non-Javadoc)
 	 * Element A hides element B if: A and B are both fields, both nested types, or both methods; and
 	 * the enclosing element of B is a superclass or superinterface of the enclosing element of A.
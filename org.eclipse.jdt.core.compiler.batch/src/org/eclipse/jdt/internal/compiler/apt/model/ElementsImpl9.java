@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2023 BEA Systems, Inc. and others
+ * Copyright (c) 2006, 2024 BEA Systems, Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -66,7 +66,11 @@ public class ElementsImpl9 extends ElementsImpl {
 
 	@Override
 	public TypeElement getTypeElement(CharSequence name) {
-		final char[][] compoundName = CharOperation.splitOn('.', name.toString().toCharArray());
+		String typeName = name.toString();
+		if (isMissingType(typeName)) {
+			return null;
+		}
+		final char[][] compoundName = CharOperation.splitOn('.', typeName.toCharArray());
 		Set<? extends ModuleElement> allModuleElements = getAllModuleElements();
 		for (ModuleElement moduleElement : allModuleElements) {
 			TypeElement t = getTypeElement(compoundName, ((ModuleElementImpl) moduleElement).binding);
@@ -74,6 +78,7 @@ public class ElementsImpl9 extends ElementsImpl {
 				return t;
 			}
 		}
+		addMissingType(typeName);
 		return null;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,11 +16,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.batch;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Enumeration;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -49,6 +49,7 @@ public class ClasspathJar extends ClasspathLocation {
 
 protected File file;
 protected ZipFile zipFile;
+protected ClasspathJarIndex jarIndex; // only set when the jar index cache is enabled
 protected ZipFile annotationZipFile;
 protected boolean closeZipFileAtEnd;
 protected Set<String> packageCache;
@@ -68,13 +69,10 @@ public List<Classpath> fetchLinkedJars(FileSystem.ClasspathSectionProblemReporte
 	try {
 		initialize();
 		ArrayList<Classpath> result = new ArrayList<>();
-		ZipEntry manifest = this.zipFile.getEntry(TypeConstants.META_INF_MANIFEST_MF);
+		byte[] manifest = getManifestContents();
 		if (manifest != null) { // non-null implies regular file
 			ManifestAnalyzer analyzer = new ManifestAnalyzer();
-			boolean success;
-			try (InputStream inputStream = this.zipFile.getInputStream(manifest)) {
-				success = analyzer.analyzeManifestContents(inputStream);
-			}
+			boolean success = analyzer.analyzeManifestContents(new ByteArrayInputStream(manifest));
 			List calledFileNames = analyzer.getCalledFileNames();
 			if (problemReporter != null) {
 				if (!success || analyzer.getClasspathSectionsCount() == 1 &&  calledFileNames == null) {
@@ -103,6 +101,12 @@ public List<Classpath> fetchLinkedJars(FileSystem.ClasspathSectionProblemReporte
 		return null;
 	}
 }
+private byte[] getManifestContents() throws IOException {
+	if (this.jarIndex != null)
+		return this.jarIndex.manifest;
+	ZipEntry manifest = this.zipFile.getEntry(TypeConstants.META_INF_MANIFEST_MF);
+	return manifest == null ? null : Util.getZipEntryByteContent(manifest, this.zipFile);
+}
 @Override
 public NameEnvironmentAnswer findClass(char[] typeName, String qualifiedPackageName, String moduleName, String qualifiedBinaryFileName) {
 	return findClass(typeName, qualifiedPackageName, moduleName, qualifiedBinaryFileName, false);
@@ -113,7 +117,7 @@ public NameEnvironmentAnswer findClass(char[] typeName, String qualifiedPackageN
 		return null; // most common case
 
 	try {
-		IBinaryType reader = ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
+		IBinaryType reader = readClassFile(qualifiedBinaryFileName);
 		if (reader != null) {
 			char[] modName = this.module == null ? null : this.module.name();
 			if (reader instanceof ClassFileReader) {
@@ -150,8 +154,28 @@ public NameEnvironmentAnswer findClass(char[] typeName, String qualifiedPackageN
 	}
 	return null;
 }
+private ClassFileReader readClassFile(String qualifiedBinaryFileName) throws ClassFormatException, IOException {
+	if (this.jarIndex == null)
+		return ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
+	if (!this.jarIndex.containsEntry(qualifiedBinaryFileName))
+		return null;
+	byte[] contents = this.jarIndex.getClassFile(qualifiedBinaryFileName);
+	if (contents == null) {
+		// first time this class is read, open the jar and remember its contents in the index
+		if (this.zipFile == null)
+			this.zipFile = new ZipFile(this.file);
+		ZipEntry entry = this.zipFile.getEntry(qualifiedBinaryFileName);
+		if (entry == null)
+			return null;
+		contents = Util.getZipEntryByteContent(entry, this.zipFile);
+		this.jarIndex.addClassFile(qualifiedBinaryFileName, contents);
+	}
+	return ClassFileReader.read(this.file.getPath(), qualifiedBinaryFileName, contents);
+}
 @Override
 public boolean hasAnnotationFileFor(String qualifiedTypeName) {
+	if (this.jarIndex != null)
+		return this.jarIndex.containsEntry(qualifiedTypeName+ExternalAnnotationProvider.ANNOTATION_FILE_SUFFIX);
 	if (this.zipFile == null)
 		return false;
 	return this.zipFile.getEntry(qualifiedTypeName+ExternalAnnotationProvider.ANNOTATION_FILE_SUFFIX) != null;
@@ -162,8 +186,8 @@ public char[][][] findTypeNames(final String qualifiedPackageName, String module
 		return null; // most common case
 	final char[] packageArray = qualifiedPackageName.toCharArray();
 	final ArrayList answers = new ArrayList();
-	nextEntry : for (Enumeration e = this.zipFile.entries(); e.hasMoreElements(); ) {
-		String fileName = ((ZipEntry) e.nextElement()).getName();
+	nextEntry : for (Iterator<String> e = entryNames(); e.hasNext(); ) {
+		String fileName = e.next();
 
 		// add the package name & all of its parent packages
 		int last = fileName.lastIndexOf('/');
@@ -193,10 +217,31 @@ public char[][][] findTypeNames(final String qualifiedPackageName, String module
 
 @Override
 public void initialize() throws IOException {
-	if (this.zipFile == null) {
+	if (this.zipFile == null && this.jarIndex == null) {
+		boolean useIndex = ClasspathJarIndex.isEnabled() && canUseIndex();
+		if (useIndex) {
+			this.jarIndex = ClasspathJarIndex.load(this.file, getPath());
+			if (this.jarIndex != null)
+				return; // the jar is only opened if a class that is not in the index yet is needed
+		}
 		this.zipFile = new ZipFile(this.file);
+		if (useIndex) {
+			this.jarIndex = ClasspathJarIndex.create(this.file, getPath(), this.zipFile);
+		}
 	}
 }
+/**
+ * Answers whether the contents of this jar can be looked up through a {@link ClasspathJarIndex}.
+ * Subclasses that read the jar file directly must answer <code>false</code>.
+ */
+protected boolean canUseIndex() {
+	return true;
+}
+private Iterator<String> entryNames() {
+	if (this.jarIndex != null)
+		return Arrays.asList(this.jarIndex.entryNames).iterator();
+	return this.zipFile.stream().map(ZipEntry::getName).iterator();
+}
 void acceptModule(ClassFileReader reader) {
 	if (reader != null) {
 		acceptModule(reader.getModuleDeclaration());
@@ -234,17 +279,16 @@ public synchronized char[][] getModulesDeclaringPackage(String qualifiedPackageN
 	this.packageCache = new HashSet<>(41);
 	this.packageCache.add(Util.EMPTY_STRING);
 
-	for (Enumeration e = this.zipFile.entries(); e.hasMoreElements(); ) {
-		String fileName = ((ZipEntry) e.nextElement()).getName();
-		addToPackageCache(fileName, false);
+	for (Iterator<String> e = entryNames(); e.hasNext(); ) {
+		addToPackageCache(e.next(), false);
 	}
 	return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
 }
 @Override
 public boolean hasCompilationUnit(String qualifiedPackageName, String moduleName) {
 	qualifiedPackageName += '/';
-	for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements(); ) {
-		String fileName = e.nextElement().getName();
+	for (Iterator<String> e = entryNames(); e.hasNext(); ) {
+		String fileName = e.next();
 		if (fileName.startsWith(qualifiedPackageName) && fileName.length() > qualifiedPackageName.length()) {
 			String tail = fileName.substring(qualifiedPackageName.length());
 			if (tail.indexOf('/') != -1)
@@ -259,8 +303,8 @@ public boolean hasCompilationUnit(String qualifiedPackageName, String moduleName
 @Override
 public char[][] listPackages() {
 	Set<String> packageNames = new HashSet<>();
-	for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements(); ) {
-		String fileName = e.nextElement().getName();
+	for (Iterator<String> e = entryNames(); e.hasNext(); ) {
+		String fileName = e.next();
 		int lastSlash = fileName.lastIndexOf('/');
 		if (lastSlash != -1 && fileName.toLowerCase().endsWith(SUFFIX_STRING_class))
 			packageNames.add(fileName.substring(0, lastSlash).replace('/', '.'));
@@ -271,6 +315,11 @@ public char[][] listPackages() {
 @Override
 public void reset() {
 	super.reset();
+	if (this.jarIndex != null) {
+		this.jarIndex.save();
+		if (this.closeZipFileAtEnd)
+			this.jarIndex = null;
+	}
 	if (this.closeZipFileAtEnd) {
 		if (this.zipFile != null) {
 			try {
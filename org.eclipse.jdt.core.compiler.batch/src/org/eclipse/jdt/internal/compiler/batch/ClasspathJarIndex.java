@@ -0,0 +1,355 @@
+/*******************************************************************************
+ * Copyright (c) 2024 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
+import org.eclipse.jdt.internal.compiler.util.Util;
+
+/**
+ * Persistent summary of the contents of a jar file, used by {@link ClasspathJar} to answer
+ * package and type lookups without opening the jar.
+ * <p>
+ * An index records the names of all the entries of the jar, its manifest and the contents of the
+ * class files that were read from it. It is stored in the directory given by the
+ * {@value #CACHE_DIRECTORY_PROPERTY} system property, and is only used as long as the length of the jar
+ * and the hash of its central directory match the ones it was created for. The central directory holds
+ * the name, size and CRC-32 of every entry, so the index survives a jar which is only touched and is
+ * dropped when any entry changes. The index file is written in a single pass and read back at once,
+ * it is not kept open so that a later compilation can replace it.
+ * </p>
+ * <p>
+ * No index is used when the system property is not set.
+ * </p>
+ */
+public class ClasspathJarIndex {
+
+	public static final String CACHE_DIRECTORY_PROPERTY = "jdt.compiler.classpathCache"; //$NON-NLS-1$
+	static final File CACHE_DIRECTORY;
+	static {
+		String directory = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+		CACHE_DIRECTORY = directory == null || directory.isEmpty() ? null : new File(directory);
+	}
+
+	private static final int MAGIC = 0x4A444A49; // "JDJI"
+	private static final int VERSION = 3;
+	private static final String SUFFIX = ".index"; //$NON-NLS-1$
+
+	final String jarPath;
+	final long jarLength;
+	final byte[] centralDirectoryHash; // empty if the central directory could not be read
+	final String[] entryNames; // sorted
+	final byte[] manifest; // null if the jar has no manifest
+	private ByteBuffer contents; // contents of the index file, null for a new index
+	private Map<String, int[]> storedClassFiles; // entry name -> {offset, length} in contents
+	private Map<String, byte[]> addedClassFiles;
+	private boolean modified;
+	int classFileHits, classFileMisses; // class files read from this index, or not found in it
+
+	// end of central directory records of zip files
+	private static final int END_SIGNATURE = 0x06054b50;
+	private static final int END_LENGTH = 22;
+	private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+	private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+	private static final int ZIP64_LOCATOR_LENGTH = 20;
+	private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+	private static final int ZIP64_END_LENGTH = 56;
+	private static final int HASH_BUFFER_LENGTH = 64 * 1024;
+
+private ClasspathJarIndex(String jarPath, long jarLength, byte[] centralDirectoryHash, String[] entryNames, byte[] manifest) {
+	this.jarPath = jarPath;
+	this.jarLength = jarLength;
+	this.centralDirectoryHash = centralDirectoryHash;
+	this.entryNames = entryNames;
+	this.manifest = manifest;
+	this.storedClassFiles = new HashMap<>();
+	this.addedClassFiles = new HashMap<>();
+}
+
+public static boolean isEnabled() {
+	return CACHE_DIRECTORY != null;
+}
+
+/**
+ * Answers the index of the given jar read from the cache directory, or <code>null</code> if there
+ * is none or if it is out of date.
+ */
+public static ClasspathJarIndex load(File jar, String jarPath) {
+	if (CACHE_DIRECTORY == null)
+		return null;
+	File indexFile = getIndexFile(jarPath);
+	if (!indexFile.isFile())
+		return null;
+	try {
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile.toPath()));
+		if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+			return null;
+		long length = buffer.getLong();
+		if (length != jar.length())
+			return null;
+		byte[] centralDirectoryHash = new byte[buffer.get() & 0xFF];
+		buffer.get(centralDirectoryHash);
+		if (centralDirectoryHash.length == 0 || !Arrays.equals(centralDirectoryHash, hashCentralDirectory(jar))
+				|| !jarPath.equals(getString(buffer)))
+			return null;
+		String[] names = new String[buffer.getInt()];
+		for (int i = 0; i < names.length; i++)
+			names[i] = getString(buffer);
+		int manifestLength = buffer.getInt();
+		byte[] manifestContents = null;
+		if (manifestLength >= 0) {
+			manifestContents = new byte[manifestLength];
+			buffer.get(manifestContents);
+		}
+		ClasspathJarIndex index = new ClasspathJarIndex(jarPath, length, centralDirectoryHash, names, manifestContents);
+		for (int i = buffer.getInt(); --i >= 0;) {
+			String name = getString(buffer);
+			int classFileLength = buffer.getInt();
+			index.storedClassFiles.put(name, new int[] {buffer.position(), classFileLength});
+			buffer.position(buffer.position() + classFileLength);
+		}
+		index.contents = buffer;
+		return index;
+	} catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+		// unreadable or truncated index, it will be recreated
+		return null;
+	}
+}
+
+/**
+ * Creates the index of the given opened jar. It is not stored until {@link #save()} is called.
+ */
+public static ClasspathJarIndex create(File jar, String jarPath, ZipFile zipFile) throws IOException {
+	long length = jar.length();
+	String[] names = new String[zipFile.size()];
+	int count = 0;
+	for (Enumeration<? extends ZipEntry> e = zipFile.entries(); e.hasMoreElements(); ) {
+		if (count == names.length)
+			names = Arrays.copyOf(names, count * 2 + 1);
+		names[count++] = e.nextElement().getName();
+	}
+	if (count != names.length)
+		names = Arrays.copyOf(names, count);
+	Arrays.sort(names);
+	ZipEntry manifestEntry = zipFile.getEntry(TypeConstants.META_INF_MANIFEST_MF);
+	byte[] manifestContents = manifestEntry == null ? null : Util.getZipEntryByteContent(manifestEntry, zipFile);
+	ClasspathJarIndex index = new ClasspathJarIndex(jarPath, length, hashCentralDirectory(jar), names, manifestContents);
+	index.modified = true;
+	return index;
+}
+
+/*
+ * Answers the SHA-256 hash of the central directory of the given jar, or an empty array if it cannot be read.
+ */
+static byte[] hashCentralDirectory(File jar) {
+	try (FileChannel channel = FileChannel.open(jar.toPath(), StandardOpenOption.READ)) {
+		long[] centralDirectory = readCentralDirectory(channel);
+		if (centralDirectory == null || centralDirectory[1] < 0 || centralDirectory[0] + centralDirectory[1] > channel.size())
+			return new byte[0];
+		MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		ByteBuffer buffer = ByteBuffer.allocate(HASH_BUFFER_LENGTH);
+		for (long position = centralDirectory[1], end = position + centralDirectory[0]; position < end;) {
+			buffer.clear().limit((int) Math.min(HASH_BUFFER_LENGTH, end - position));
+			int read = channel.read(buffer, position);
+			if (read < 0)
+				return new byte[0];
+			buffer.flip();
+			digest.update(buffer);
+			position += read;
+		}
+		return digest.digest();
+	} catch (IOException | IllegalArgumentException | NoSuchAlgorithmException e) {
+		// not a readable zip file, opening it will report the problem
+		return new byte[0];
+	}
+}
+
+/*
+ * Answers the size and the offset of the central directory of the zip file read by the given channel, as
+ * recorded by its end of central directory record, or null if they cannot be read.
+ */
+private static long[] readCentralDirectory(FileChannel channel) throws IOException {
+	try {
+		long size = channel.size();
+		int tailLength = (int) Math.min(size, END_LENGTH + MAX_COMMENT_LENGTH);
+		ByteBuffer tail = read(channel, size - tailLength, tailLength);
+		// the record is followed by a comment of variable length, look for it from the end
+		for (int i = tail.limit() - END_LENGTH; i >= 0; i--) {
+			if (tail.getInt(i) != END_SIGNATURE)
+				continue;
+			long directorySize = Integer.toUnsignedLong(tail.getInt(i + 12));
+			long directoryOffset = Integer.toUnsignedLong(tail.getInt(i + 16));
+			if ((directorySize == 0xFFFFFFFFL || directoryOffset == 0xFFFFFFFFL)
+					&& i >= ZIP64_LOCATOR_LENGTH && tail.getInt(i - ZIP64_LOCATOR_LENGTH) == ZIP64_LOCATOR_SIGNATURE) {
+				ByteBuffer zip64End = read(channel, tail.getLong(i - ZIP64_LOCATOR_LENGTH + 8), ZIP64_END_LENGTH);
+				if (zip64End.limit() == ZIP64_END_LENGTH && zip64End.getInt(0) == ZIP64_END_SIGNATURE) {
+					directorySize = zip64End.getLong(40);
+					directoryOffset = zip64End.getLong(48);
+				}
+			}
+			return new long[] {directorySize, directoryOffset};
+		}
+	} catch (IllegalArgumentException e) {
+		// not a zip file, opening it will report the problem
+	}
+	return null;
+}
+
+private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+	ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+	while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) >= 0) {
+		// keep reading
+	}
+	buffer.flip();
+	return buffer;
+}
+
+static File getIndexFile(String jarPath) {
+	String name = new File(jarPath).getName();
+	return new File(CACHE_DIRECTORY, name + '-' + Integer.toHexString(jarPath.hashCode()) + SUFFIX);
+}
+
+private static String getString(ByteBuffer buffer) {
+	byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+	buffer.get(bytes);
+	return new String(bytes, StandardCharsets.UTF_8);
+}
+
+private static void putString(DataOutputStream output, String value) throws IOException {
+	byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+	output.writeShort(bytes.length);
+	output.write(bytes);
+}
+
+public boolean containsEntry(String entryName) {
+	return Arrays.binarySearch(this.entryNames, entryName) >= 0;
+}
+
+/**
+ * Answers whether the jar has entries whose name starts with the given prefix.
+ */
+public boolean containsEntries(String prefix) {
+	int index = Arrays.binarySearch(this.entryNames, prefix);
+	if (index >= 0)
+		return true;
+	index = -index - 1;
+	return index < this.entryNames.length && this.entryNames[index].startsWith(prefix);
+}
+
+/**
+ * Answers the contents of the given class file if it was read from the jar before, or <code>null</code>.
+ */
+public synchronized byte[] getClassFile(String entryName) {
+	byte[] result = this.addedClassFiles.get(entryName);
+	if (result == null) {
+		int[] position = this.storedClassFiles.get(entryName);
+		if (position != null) {
+			result = new byte[position[1]];
+			this.contents.get(position[0], result);
+		}
+	}
+	if (result != null) {
+		this.classFileHits++;
+	} else {
+		this.classFileMisses++;
+	}
+	return result;
+}
+
+public synchronized void addClassFile(String entryName, byte[] classFileContents) {
+	if (!this.storedClassFiles.containsKey(entryName) && this.addedClassFiles.put(entryName, classFileContents) == null)
+		this.modified = true;
+}
+
+/**
+ * Answers whether this index is not stored yet, or gained class files since it was read.
+ */
+public synchronized boolean needsSaving() {
+	return this.modified;
+}
+
+/**
+ * Writes this index to the cache directory. The index file is replaced atomically so that
+ * concurrent compilers never see a partially written index; failing to save the index is not an error.
+ */
+public synchronized void save() {
+	if (CACHE_DIRECTORY == null || this.centralDirectoryHash.length == 0 || !needsSaving())
+		return; // an index of a jar whose central directory could not be read would never be used
+	File tempFile = null;
+	try {
+		Files.createDirectories(CACHE_DIRECTORY.toPath());
+		tempFile = File.createTempFile("jdt", SUFFIX, CACHE_DIRECTORY); //$NON-NLS-1$
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+			output.writeInt(MAGIC);
+			output.writeInt(VERSION);
+			output.writeLong(this.jarLength);
+			output.writeByte(this.centralDirectoryHash.length);
+			output.write(this.centralDirectoryHash);
+			putString(output, this.jarPath);
+			output.writeInt(this.entryNames.length);
+			for (String name : this.entryNames)
+				putString(output, name);
+			if (this.manifest == null) {
+				output.writeInt(-1);
+			} else {
+				output.writeInt(this.manifest.length);
+				output.write(this.manifest);
+			}
+			output.writeInt(this.storedClassFiles.size() + this.addedClassFiles.size());
+			for (Map.Entry<String, int[]> entry : this.storedClassFiles.entrySet()) {
+				int[] position = entry.getValue();
+				byte[] classFileContents = new byte[position[1]];
+				this.contents.get(position[0], classFileContents);
+				putString(output, entry.getKey());
+				output.writeInt(classFileContents.length);
+				output.write(classFileContents);
+			}
+			for (Map.Entry<String, byte[]> entry : this.addedClassFiles.entrySet()) {
+				putString(output, entry.getKey());
+				output.writeInt(entry.getValue().length);
+				output.write(entry.getValue());
+			}
+		}
+		Files.move(tempFile.toPath(), getIndexFile(this.jarPath).toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		tempFile = null;
+		this.modified = false;
+	} catch (IOException | UnsupportedOperationException e) {
+		// the index will be recreated by a later compilation
+	} finally {
+		if (tempFile != null)
+			tempFile.delete();
+	}
+}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -45,6 +45,11 @@ public ClasspathJmod(File file, boolean closeZipFileAtEnd,
 	super(file, closeZipFileAtEnd, accessRuleSet, destinationPath);
 }
 
+@Override
+protected boolean canUseIndex() {
+	return false;
+}
+
 @Override
 public List<Classpath> fetchLinkedJars(FileSystem.ClasspathSectionProblemReporter problemReporter) {
 	// don't do anything
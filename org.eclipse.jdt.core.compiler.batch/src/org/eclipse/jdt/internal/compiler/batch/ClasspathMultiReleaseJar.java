@@ -11,6 +11,7 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
@@ -27,6 +28,7 @@ public class ClasspathMultiReleaseJar extends ClasspathJar {
 	private java.nio.file.FileSystem fs = null;
 	Path releasePath = null;
 	String compliance = null;
+	private static final String VERSIONS_FOLDER = "META-INF/versions/"; //$NON-NLS-1$
 
 	public ClasspathMultiReleaseJar(File file, boolean closeZipFileAtEnd,
 			AccessRuleSet accessRuleSet, String destinationPath, String compliance) {
@@ -36,6 +38,14 @@ public class ClasspathMultiReleaseJar extends ClasspathJar {
 	@Override
 	public void initialize() throws IOException {
 		super.initialize();
+		if (this.jarIndex != null) {
+			if (!this.jarIndex.containsEntries(VERSIONS_FOLDER + this.compliance + '/'))
+				return; // no classes for this release, look up the jar like any other jar
+			// the versioned classes are read directly from the jar
+			this.jarIndex = null;
+			if (this.zipFile == null)
+				this.zipFile = new ZipFile(this.file);
+		}
 		if (this.file.exists()) {
 			this.fs = JRTUtil.getJarFileSystem(this.file.toPath());
 			this.releasePath = this.fs.getPath("/", "META-INF", "versions", this.compliance); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
@@ -0,0 +1,335 @@
+/*******************************************************************************
+ * Copyright (c) 2024 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.AclEntry;
+import java.nio.file.attribute.AclEntryPermission;
+import java.nio.file.attribute.AclEntryType;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipFile;
+
+import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
+
+/**
+ * Long-lived batch compiler, which serves compile requests from the standard input or from a local socket.
+ * <p>
+ * Each request is a single line holding the command line arguments of {@link Main}. The output of the
+ * compilation is written back, followed by a line <code>#exit &lt;code&gt;</code> where the code is the one
+ * {@link Main} would have exited with. Keeping the compiler running across requests saves the JVM startup
+ * and lets later compilations run on warm code. The runtime images stay open between requests, and so do
+ * the jars found on the classpaths: a jar is only reopened when its length or time stamp changes.
+ * </p>
+ * <p>
+ * Usage: <code>java -cp ecj.jar org.eclipse.jdt.internal.compiler.batch.CompilerDaemon [-port &lt;port&gt; [-tokenFile &lt;file&gt;]]</code>.
+ * When a port is given, requests are accepted on the loopback interface only, one connection at a time.
+ * Since any local user can connect to it, the daemon writes a random token to a file only readable by its
+ * owner, by default <code>~/.ecj/daemon-&lt;port&gt;.token</code>. The first line of each connection must be
+ * that token, the connection is closed otherwise. The second line is the working directory of the client.
+ * The relative paths of the requests are resolved against the working directory of the daemon, so the
+ * requests of a client running in another directory are rejected.
+ * </p>
+ */
+public class CompilerDaemon {
+
+	public static final String EXIT_MARKER = "#exit "; //$NON-NLS-1$
+	static final int TOKEN_LENGTH = 32; // bytes
+	static final int MAX_PATH_LENGTH = 4096;
+	static final int HEADER_TIMEOUT = 10000; // ms to send the token and the working directory
+	static final int MAX_OPEN_JARS = 1000;
+
+	private final Map<String, OpenJar> openJars = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, OpenJar> eldest) {
+			if (size() <= MAX_OPEN_JARS)
+				return false;
+			eldest.getValue().close();
+			return true;
+		}
+	};
+
+	/**
+	 * An open handle on a jar, which lets the jars opened by the compilations share its decoded
+	 * central directory.
+	 */
+	static class OpenJar {
+		final ZipFile zipFile;
+		final long length;
+		final long lastModified;
+
+		OpenJar(File file) throws IOException {
+			this.length = file.length();
+			this.lastModified = file.lastModified();
+			this.zipFile = new ZipFile(file);
+		}
+		boolean isValid(File file) {
+			return this.length == file.length() && this.lastModified == file.lastModified();
+		}
+		void close() {
+			try {
+				this.zipFile.close();
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+	}
+
+public static void main(String[] argv) throws IOException {
+	CompilerDaemon daemon = new CompilerDaemon();
+	if ((argv.length == 2 || argv.length == 4) && "-port".equals(argv[0])) { //$NON-NLS-1$
+		int port = Integer.parseInt(argv[1]);
+		File tokenFile;
+		if (argv.length == 4 && "-tokenFile".equals(argv[2])) { //$NON-NLS-1$
+			tokenFile = new File(argv[3]);
+		} else if (argv.length == 2) {
+			tokenFile = new File(new File(System.getProperty("user.home"), ".ecj"), "daemon-" + port + ".token"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		} else {
+			usage();
+			return;
+		}
+		daemon.serve(port, tokenFile);
+	} else if (argv.length == 0) {
+		daemon.serve(new BufferedReader(new InputStreamReader(System.in)), System.out);
+	} else {
+		usage();
+	}
+	daemon.shutdown();
+}
+
+private static void usage() {
+	System.err.println("Usage: CompilerDaemon [-port <port> [-tokenFile <file>]]"); //$NON-NLS-1$
+	System.exit(-1);
+}
+
+/**
+ * Serves the requests of the successive connections made on the given local port, once they sent
+ * the token written to the given file.
+ */
+public void serve(int port, File tokenFile) throws IOException {
+	String token = createToken(tokenFile);
+	try (ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+		serve(serverSocket, token);
+	} finally {
+		tokenFile.delete();
+	}
+}
+
+/**
+ * Serves the requests of the successive connections accepted by the given socket, until it is closed.
+ * The first line of each connection must be the given token.
+ */
+public void serve(ServerSocket serverSocket, String token) throws IOException {
+	byte[] expected = token.getBytes(StandardCharsets.US_ASCII);
+	while (true) {
+		Socket socket;
+		try {
+			socket = serverSocket.accept();
+		} catch (SocketException e) {
+			if (serverSocket.isClosed())
+				return;
+			throw e;
+		}
+		try (socket) {
+			// do not let a client which sends nothing or an endless line hold the daemon
+			socket.setSoTimeout(HEADER_TIMEOUT);
+			BufferedReader requests = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+			String received = readLine(requests, expected.length);
+			// compare in constant time, not to tell how much of the token was right
+			if (received == null || !MessageDigest.isEqual(expected, received.getBytes(StandardCharsets.US_ASCII)))
+				continue;
+			String workingDirectory = readLine(requests, MAX_PATH_LENGTH);
+			if (workingDirectory == null)
+				continue;
+			socket.setSoTimeout(0);
+			if (isWorkingDirectory(workingDirectory)) {
+				serve(requests, socket.getOutputStream());
+			} else {
+				PrintWriter writer = new PrintWriter(socket.getOutputStream());
+				writer.println("Requests must be sent from the working directory of the daemon: " + System.getProperty("user.dir")); //$NON-NLS-1$ //$NON-NLS-2$
+				writer.println(EXIT_MARKER + (-1));
+				writer.flush();
+			}
+		} catch (IOException e) {
+			// connection lost, wait for the next one
+		}
+	}
+}
+
+/*
+ * Answer the next line read from the given reader, or null if it is longer than the given length
+ * or the reader is exhausted first.
+ */
+private static String readLine(BufferedReader reader, int maxLength) throws IOException {
+	StringBuilder line = new StringBuilder();
+	int c;
+	while ((c = reader.read()) != -1) {
+		if (c == '\n') {
+			int length = line.length();
+			if (length > 0 && line.charAt(length - 1) == '\r')
+				line.setLength(length - 1);
+			return line.toString();
+		}
+		if (line.length() > maxLength) // room for a trailing carriage return
+			return null;
+		line.append((char) c);
+	}
+	return null;
+}
+
+/*
+ * Answer whether the given directory of a client is the working directory of this daemon.
+ */
+private static boolean isWorkingDirectory(String directory) {
+	try {
+		return Files.isSameFile(Path.of(directory), Path.of(System.getProperty("user.dir"))); //$NON-NLS-1$
+	} catch (IOException | RuntimeException e) {
+		return false;
+	}
+}
+
+/**
+ * Writes a new random token to the given file, which is created readable and writable by its owner only,
+ * and answers it.
+ */
+public static String createToken(File tokenFile) throws IOException {
+	byte[] bytes = new byte[TOKEN_LENGTH];
+	new SecureRandom().nextBytes(bytes);
+	String token = HexFormat.of().formatHex(bytes);
+	Path path = tokenFile.toPath();
+	Path parent = path.toAbsolutePath().getParent();
+	if (parent != null)
+		Files.createDirectories(parent);
+	Files.deleteIfExists(path); // do not reuse a file which others may be able to read
+	try {
+		Files.createFile(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"))); //$NON-NLS-1$
+	} catch (UnsupportedOperationException e) {
+		// not a POSIX file system, replace the access control list once created with one granting the owner only
+		Files.createFile(path);
+		AclFileAttributeView view = Files.getFileAttributeView(path, AclFileAttributeView.class);
+		if (view == null) {
+			Files.delete(path);
+			throw new IOException("Cannot restrict the access to " + tokenFile); //$NON-NLS-1$
+		}
+		view.setAcl(List.of(AclEntry.newBuilder()
+				.setType(AclEntryType.ALLOW)
+				.setPrincipal(view.getOwner())
+				.setPermissions(EnumSet.of(AclEntryPermission.READ_DATA, AclEntryPermission.WRITE_DATA,
+						AclEntryPermission.APPEND_DATA, AclEntryPermission.READ_ATTRIBUTES,
+						AclEntryPermission.WRITE_ATTRIBUTES, AclEntryPermission.READ_NAMED_ATTRS,
+						AclEntryPermission.WRITE_NAMED_ATTRS, AclEntryPermission.READ_ACL,
+						AclEntryPermission.WRITE_ACL, AclEntryPermission.DELETE, AclEntryPermission.SYNCHRONIZE))
+				.build()));
+	} catch (FileAlreadyExistsException e) {
+		throw new IOException("Token file created concurrently: " + tokenFile, e); //$NON-NLS-1$
+	}
+	Files.write(path, token.getBytes(StandardCharsets.US_ASCII));
+	return token;
+}
+
+/**
+ * Serves the requests read from the given reader until it is exhausted.
+ */
+public void serve(BufferedReader requests, OutputStream output) throws IOException {
+	// the compiler closes its writers when done, keep the output open for the next requests
+	OutputStream requestOutput = new FilterOutputStream(output) {
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			this.out.write(b, off, len);
+		}
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+	};
+	String request;
+	while ((request = requests.readLine()) != null) {
+		if (request.trim().isEmpty())
+			continue;
+		boolean succeeded = compile(Main.tokenize(request), new PrintWriter(requestOutput));
+		PrintWriter writer = new PrintWriter(requestOutput); // the compiler closed the previous one
+		writer.println(EXIT_MARKER + (succeeded ? 0 : -1));
+		writer.flush();
+	}
+}
+
+/**
+ * Compiles with the given command line arguments, writing the compiler output to the given writer,
+ * which is closed when done. Answers whether the compilation succeeded.
+ */
+public boolean compile(String[] argv, PrintWriter writer) {
+	Main main = new Main(writer, writer, false /* systemExit */, null /* options */, null /* progress */);
+	boolean succeeded = main.compile(argv);
+	if (main.checkedClasspaths != null)
+		keepJarsOpen(main.checkedClasspaths);
+	return succeeded;
+}
+
+private void keepJarsOpen(Classpath[] classpaths) {
+	for (Classpath classpath : classpaths) {
+		if (!(classpath instanceof ClasspathJar) || classpath instanceof ClasspathJmod)
+			continue;
+		File file = ((ClasspathJar) classpath).file;
+		String path = classpath.getPath();
+		OpenJar openJar = this.openJars.get(path);
+		if (openJar != null) {
+			if (openJar.isValid(file))
+				continue;
+			// the jar changed, the compilations must not share the stale contents
+			this.openJars.remove(path);
+			openJar.close();
+		}
+		if (file.isFile()) {
+			try {
+				this.openJars.put(path, new OpenJar(file));
+			} catch (IOException e) {
+				// the jar will be reported by the compilations that use it
+			}
+		}
+	}
+}
+
+/**
+ * Closes the jars kept open by this daemon.
+ */
+public void shutdown() {
+	for (Iterator<OpenJar> iterator = this.openJars.values().iterator(); iterator.hasNext();) {
+		iterator.next().close();
+		iterator.remove();
+	}
+}
+}
@@ -0,0 +1,465 @@
+/*******************************************************************************
+ * Copyright (c) 2024 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
+import org.eclipse.jdt.internal.compiler.util.SortedCharArrays;
+import org.eclipse.jdt.internal.compiler.util.SuffixConstants;
+import org.eclipse.jdt.internal.compiler.util.Util;
+
+/**
+ * State of the incremental compilations requested with the <code>-incremental &lt;file&gt;</code> option
+ * of {@link Main}.
+ * <p>
+ * The state records, for each compiled source file, its time stamp, the class files generated from it and
+ * the qualified, simple and root names it references. A compilation only compiles the source files that
+ * changed or had errors, then the source files that reference the types whose structure changed, until no
+ * more structural changes are found, as the incremental builder of the IDE does. Unchanged source files
+ * are found as binaries in the output directory.
+ * </p>
+ * <p>
+ * Everything is compiled when the state cannot be read, or when the compiler version, the options or the
+ * classpath jars changed since it was saved. Classpath directories are assumed not to change. No state is
+ * kept when annotation processing is enabled (it is by default from 1.6 on, use <code>-proc:none</code>), or
+ * when the class files do not all go to the <code>-d</code> directory.
+ * </p>
+ */
+public class IncrementalState {
+
+	static final int VERSION = 1;
+
+	final String configuration;
+	final Map<String, UnitState> units = new HashMap<>();
+
+	// changes found during the current compilation
+	private String outputPath;
+	private Map<String, UnitState> previousUnits = new HashMap<>();
+	private Set<String> compiledFileNames = new HashSet<>();
+	private Set<String> qualifiedNames; // of the form 'p1/p2'
+	private Set<String> simpleNames;
+	private Set<String> rootNames;
+	private Set<String> writtenClassFiles;
+	private Set<String> removedClassFiles;
+
+	static class UnitState {
+		final String fileName;
+		final long lastModified;
+		final long length;
+		final boolean hasErrors;
+		final char[][][] qualifiedReferences; // all sorted
+		final char[][] simpleNameReferences;
+		final char[][] rootReferences;
+		final String[] classFiles; // slash separated names, without the .class suffix
+
+		UnitState(String fileName, long lastModified, long length, boolean hasErrors,
+				char[][][] qualifiedReferences, char[][] simpleNameReferences, char[][] rootReferences, String[] classFiles) {
+			this.fileName = fileName;
+			this.lastModified = lastModified;
+			this.length = length;
+			this.hasErrors = hasErrors;
+			this.qualifiedReferences = qualifiedReferences;
+			this.simpleNameReferences = simpleNameReferences;
+			this.rootReferences = rootReferences;
+			this.classFiles = classFiles;
+		}
+		boolean isUpToDate(File file) {
+			return !this.hasErrors && this.lastModified == file.lastModified() && this.length == file.length();
+		}
+		/*
+		 * Same logic as ReferenceCollection#includes(char[][][], char[][], char[][]) in the IDE builder:
+		 * null qualified names means one of them was the default package, which every unit references.
+		 */
+		boolean includes(char[][][] qualifiedNames, char[][] simpleNames, char[][] rootNames) {
+			if (!SortedCharArrays.intersects(rootNames, this.rootReferences, SortedCharArrays.CHAR_ARR_COMPARATOR))
+				return false;
+			if (!SortedCharArrays.intersects(simpleNames, this.simpleNameReferences, SortedCharArrays.CHAR_ARR_COMPARATOR))
+				return false;
+			if (qualifiedNames == null
+					|| SortedCharArrays.intersects(qualifiedNames, this.qualifiedReferences, SortedCharArrays.CHAR_CHAR_ARR_COMPARATOR))
+				return true;
+			for (int i = qualifiedNames.length; --i >= 0 && qualifiedNames[i].length == 1;) {
+				if (Arrays.binarySearch(this.simpleNameReferences, qualifiedNames[i][0], SortedCharArrays.CHAR_ARR_COMPARATOR) >= 0)
+					return true;
+			}
+			return false;
+		}
+	}
+
+IncrementalState(String configuration) {
+	this.configuration = configuration;
+}
+
+/**
+ * Compiles the source files of the given compiler which are affected by the changes made since the
+ * given state file was written, and updates the state file.
+ */
+static void compile(Main main, String stateFileName) {
+	File stateFile = new File(stateFileName);
+	CompilationUnit[] allUnits = main.getCompilationUnits();
+	if (!canBeIncremental(main, allUnits)) {
+		stateFile.delete();
+		main.performCompilation(allUnits);
+		return;
+	}
+	String configuration = getConfiguration(main);
+	IncrementalState previousState = read(stateFile, configuration);
+	IncrementalState state = new IncrementalState(configuration);
+	state.outputPath = main.destinationPath;
+	if (previousState != null)
+		state.previousUnits = previousState.units;
+	state.startChanges();
+
+	Map<String, CompilationUnit> unitsByName = new HashMap<>();
+	List<CompilationUnit> unitsToCompile = new ArrayList<>();
+	for (CompilationUnit unit : allUnits) {
+		String fileName = String.valueOf(unit.getFileName());
+		unitsByName.put(fileName, unit);
+		UnitState unitState = previousState == null ? null : previousState.units.get(fileName);
+		if (unitState != null && unitState.isUpToDate(new File(fileName))) {
+			state.units.put(fileName, unitState);
+		} else {
+			unitsToCompile.add(unit);
+		}
+	}
+	if (previousState != null) {
+		for (UnitState unitState : previousState.units.values()) {
+			if (!unitsByName.containsKey(unitState.fileName)) {
+				// removed source file, its types are gone
+				for (String classFile : unitState.classFiles)
+					state.removeClassFile(classFile);
+			}
+		}
+		state.deleteRemovedClassFiles();
+		state.addAffectedUnits(unitsByName, unitsToCompile);
+	}
+
+	Classpath[] classpaths = main.checkedClasspaths;
+	String[] fileNames = main.filenames;
+	try {
+		// unchanged units are found in the output directory
+		Classpath output = FileSystem.getClasspath(main.destinationPath, null, null, main.options, null);
+		if (output != null) {
+			main.checkedClasspaths = new Classpath[classpaths.length + 1];
+			main.checkedClasspaths[0] = output;
+			System.arraycopy(classpaths, 0, main.checkedClasspaths, 1, classpaths.length);
+		}
+		main.incrementalState = state;
+		boolean compiled = false;
+		while (!unitsToCompile.isEmpty() || !compiled) { // always compile once, to report the results of the compiler
+			CompilationUnit[] units = unitsToCompile.toArray(new CompilationUnit[unitsToCompile.size()]);
+			main.filenames = new String[units.length];
+			for (int i = 0; i < units.length; i++)
+				state.compiledFileNames.add(main.filenames[i] = String.valueOf(units[i].getFileName()));
+			state.startChanges();
+			main.performCompilation(units);
+			compiled = true;
+			state.deleteRemovedClassFiles();
+			unitsToCompile.clear();
+			state.addAffectedUnits(unitsByName, unitsToCompile);
+		}
+	} finally {
+		main.incrementalState = null;
+		main.checkedClasspaths = classpaths;
+		main.filenames = fileNames;
+	}
+	state.write(stateFile);
+}
+
+private static boolean canBeIncremental(Main main, CompilationUnit[] units) {
+	if (main.destinationPath == null || main.destinationPath == Main.NONE)
+		return false;
+	if (CompilerOptions.DISABLED.equals(main.options.get(CompilerOptions.OPTION_GenerateClassFiles)))
+		return false; // -proc:only
+	if (CompilerOptions.ENABLED.equals(main.options.get(CompilerOptions.OPTION_Process_Annotations)))
+		return false; // the files generated by processors, including the ones found on the classpath, are not tracked
+	for (CompilationUnit unit : units) {
+		if (unit.destinationPath != null)
+			return false;
+	}
+	return true;
+}
+
+private static String getConfiguration(Main main) {
+	StringBuilder buffer = new StringBuilder(main.bind("compiler.version")); //$NON-NLS-1$
+	buffer.append('\n').append(main.destinationPath);
+	for (Map.Entry<String, String> option : new TreeMap<>(main.options).entrySet())
+		buffer.append('\n').append(option.getKey()).append('=').append(option.getValue());
+	for (Classpath classpath : main.checkedClasspaths) {
+		buffer.append('\n').append(classpath.getPath());
+		if (classpath instanceof ClasspathJar) {
+			File file = ((ClasspathJar) classpath).file;
+			buffer.append(':').append(file.length()).append(':').append(file.lastModified());
+		}
+	}
+	return buffer.toString();
+}
+
+private void startChanges() {
+	this.qualifiedNames = new HashSet<>();
+	this.simpleNames = new HashSet<>();
+	this.rootNames = new HashSet<>();
+	this.writtenClassFiles = new HashSet<>();
+	this.removedClassFiles = new HashSet<>();
+}
+
+/**
+ * Records the result of the compilation of a unit, before its class files are written.
+ */
+void acceptResult(CompilationResult result, boolean writesClassFiles) {
+	String fileName = String.valueOf(result.getFileName());
+	File file = new File(fileName);
+	UnitState previous = this.previousUnits.get(fileName);
+	String[] classFiles;
+	if (writesClassFiles) {
+		ClassFile[] generated = result.getClassFiles();
+		classFiles = new String[generated.length];
+		for (int i = 0; i < generated.length; i++) {
+			String classFile = classFiles[i] = String.valueOf(generated[i].fileName());
+			this.writtenClassFiles.add(classFile);
+			if (previous == null || Arrays.asList(previous.classFiles).indexOf(classFile) < 0) {
+				addDependentsOf(classFile); // new type
+			} else if (hasStructuralChanges(classFile, generated[i].getBytes())) {
+				addDependentsOf(classFile);
+			}
+		}
+		if (previous != null) {
+			Set<String> newClassFiles = new HashSet<>(Arrays.asList(classFiles));
+			for (String classFile : previous.classFiles)
+				if (!newClassFiles.contains(classFile))
+					removeClassFile(classFile);
+		}
+	} else {
+		// no class file is written, the previous ones are kept
+		classFiles = previous == null ? new String[0] : previous.classFiles;
+	}
+	this.units.put(fileName, new UnitState(fileName, file.lastModified(), file.length(), result.hasErrors(),
+			sort(result.qualifiedReferences), sort(result.simpleNameReferences), sort(result.rootReferences), classFiles));
+}
+
+private boolean hasStructuralChanges(String classFile, byte[] newBytes) {
+	File file = getClassFile(classFile);
+	try {
+		ClassFileReader reader = new ClassFileReader(Util.getFileByteContent(file), file.getPath().toCharArray());
+		return reader.hasStructuralChanges(newBytes);
+	} catch (IOException | ClassFormatException e) {
+		return true;
+	}
+}
+
+private File getClassFile(String classFile) {
+	return new File(this.outputPath, classFile.replace('/', File.separatorChar) + SuffixConstants.SUFFIX_STRING_class);
+}
+
+void removeClassFile(String classFile) {
+	this.removedClassFiles.add(classFile);
+	addDependentsOf(classFile);
+}
+
+/*
+ * Deletes the class files that are no longer generated, unless they were moved to another unit.
+ */
+private void deleteRemovedClassFiles() {
+	for (String classFile : this.removedClassFiles) {
+		if (!this.writtenClassFiles.contains(classFile))
+			getClassFile(classFile).delete();
+	}
+	this.removedClassFiles.clear();
+}
+
+/*
+ * Same as IncrementalImageBuilder#addDependentsOf(IPath, boolean) for a structural change.
+ */
+private void addDependentsOf(String classFile) {
+	String path = classFile;
+	int lastSlash = path.lastIndexOf('/');
+	String typeName = path.substring(lastSlash + 1);
+	if (typeName.equals(String.valueOf(TypeConstants.PACKAGE_INFO_NAME))) {
+		if (lastSlash == -1)
+			return; // the package-info of the default package cannot affect the rest of the package
+		path = path.substring(0, lastSlash); // the package-info file has changed so blame the package itself
+		lastSlash = path.lastIndexOf('/');
+		typeName = path.substring(lastSlash + 1);
+	}
+	int firstSlash = path.indexOf('/');
+	this.rootNames.add(firstSlash == -1 ? path : path.substring(0, firstSlash));
+	this.qualifiedNames.add(lastSlash == -1 ? Util.EMPTY_STRING : path.substring(0, lastSlash));
+	int memberIndex = typeName.indexOf('$');
+	if (memberIndex > 0)
+		typeName = typeName.substring(0, memberIndex);
+	this.simpleNames.add(typeName);
+}
+
+/*
+ * Adds the units that were not compiled yet and reference the types that changed.
+ */
+private void addAffectedUnits(Map<String, CompilationUnit> unitsByName, List<CompilationUnit> unitsToCompile) {
+	if (this.simpleNames.isEmpty())
+		return;
+	char[][][] qualified = new char[this.qualifiedNames.size()][][];
+	int index = 0;
+	boolean hasDefaultPackage = false;
+	for (String qualifiedName : this.qualifiedNames) {
+		if (qualifiedName.isEmpty())
+			hasDefaultPackage = true;
+		qualified[index++] = CharOperation.splitOn('/', qualifiedName.toCharArray());
+	}
+	char[][][] qualifiedNamesArray = hasDefaultPackage ? null : sort(qualified);
+	char[][] simpleNamesArray = sort(toCharArrays(this.simpleNames));
+	char[][] rootNamesArray = sort(toCharArrays(this.rootNames));
+	Set<String> pending = new HashSet<>();
+	for (CompilationUnit unit : unitsToCompile)
+		pending.add(String.valueOf(unit.getFileName()));
+	for (Map.Entry<String, CompilationUnit> entry : unitsByName.entrySet()) {
+		String fileName = entry.getKey();
+		// units compiled during this compilation already saw the changes they caused
+		if (pending.contains(fileName) || this.compiledFileNames.contains(fileName))
+			continue;
+		UnitState unitState = this.units.get(fileName);
+		if (unitState != null && unitState.includes(qualifiedNamesArray, simpleNamesArray, rootNamesArray))
+			unitsToCompile.add(entry.getValue());
+	}
+	this.qualifiedNames.clear();
+	this.simpleNames.clear();
+	this.rootNames.clear();
+}
+
+private static char[][] toCharArrays(Set<String> strings) {
+	char[][] result = new char[strings.size()][];
+	int index = 0;
+	for (String string : strings)
+		result[index++] = string.toCharArray();
+	return result;
+}
+
+private static char[][][] sort(char[][][] names) {
+	if (names == null)
+		return new char[0][][];
+	names = names.clone();
+	Arrays.sort(names, SortedCharArrays.CHAR_CHAR_ARR_COMPARATOR);
+	return names;
+}
+
+private static char[][] sort(char[][] names) {
+	if (names == null)
+		return CharOperation.NO_CHAR_CHAR;
+	names = names.clone();
+	Arrays.sort(names, SortedCharArrays.CHAR_ARR_COMPARATOR);
+	return names;
+}
+
+static IncrementalState read(File stateFile, String configuration) {
+	if (!stateFile.isFile())
+		return null;
+	try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(stateFile)))) {
+		if (in.readInt() != VERSION || !configuration.equals(readString(in)))
+			return null;
+		IncrementalState state = new IncrementalState(configuration);
+		for (int i = in.readInt(); --i >= 0;) {
+			String fileName = readString(in);
+			long lastModified = in.readLong();
+			long length = in.readLong();
+			boolean hasErrors = in.readBoolean();
+			char[][][] qualifiedReferences = new char[in.readInt()][][];
+			for (int j = 0; j < qualifiedReferences.length; j++)
+				qualifiedReferences[j] = readNames(in);
+			char[][] simpleNameReferences = readNames(in);
+			char[][] rootReferences = readNames(in);
+			String[] classFiles = new String[in.readInt()];
+			for (int j = 0; j < classFiles.length; j++)
+				classFiles[j] = readString(in);
+			state.units.put(fileName, new UnitState(fileName, lastModified, length, hasErrors,
+					qualifiedReferences, simpleNameReferences, rootReferences, classFiles));
+		}
+		return state;
+	} catch (IOException e) {
+		// compile everything
+		return null;
+	}
+}
+
+void write(File stateFile) {
+	try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(stateFile)))) {
+		out.writeInt(VERSION);
+		writeString(out, this.configuration);
+		out.writeInt(this.units.size());
+		for (UnitState unitState : this.units.values()) {
+			writeString(out, unitState.fileName);
+			out.writeLong(unitState.lastModified);
+			out.writeLong(unitState.length);
+			out.writeBoolean(unitState.hasErrors);
+			out.writeInt(unitState.qualifiedReferences.length);
+			for (char[][] qualifiedReference : unitState.qualifiedReferences)
+				writeNames(out, qualifiedReference);
+			writeNames(out, unitState.simpleNameReferences);
+			writeNames(out, unitState.rootReferences);
+			out.writeInt(unitState.classFiles.length);
+			for (String classFile : unitState.classFiles)
+				writeString(out, classFile);
+		}
+	} catch (IOException e) {
+		// the next compilation compiles everything
+		stateFile.delete();
+	}
+}
+
+private static char[][] readNames(DataInputStream in) throws IOException {
+	char[][] names = new char[in.readInt()][];
+	for (int i = 0; i < names.length; i++)
+		names[i] = readString(in).toCharArray();
+	return names;
+}
+
+private static void writeNames(DataOutputStream out, char[][] names) throws IOException {
+	out.writeInt(names.length);
+	for (char[] name : names)
+		writeString(out, String.valueOf(name));
+}
+
+// writeUTF is limited to 64K bytes, which the configuration may exceed
+private static String readString(DataInputStream in) throws IOException {
+	char[] chars = new char[in.readInt()];
+	for (int i = 0; i < chars.length; i++)
+		chars[i] = in.readChar();
+	return new String(chars);
+}
+
+private static void writeString(DataOutputStream out, String string) throws IOException {
+	out.writeInt(string.length());
+	out.writeChars(string);
+}
+}
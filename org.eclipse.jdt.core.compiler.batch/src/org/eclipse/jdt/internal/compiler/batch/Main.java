@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1033,6 +1033,14 @@ public class Main implements ProblemSeverities, SuffixConstants {
 								String.valueOf(compilerStats.generateTime),
 								String.valueOf(((int) (compilerStats.generateTime * 1000.0 / time)) / 10.0),
 							}));
+				if (compilerStats.processingStalls != 0 || compilerStats.writingStalls != 0) {
+					printlnOut(
+						this.main.bind("compile.stalls", //$NON-NLS-1$
+							new String[] {
+								String.valueOf(compilerStats.processingStalls),
+								String.valueOf(compilerStats.writingStalls),
+							}));
+				}
 			}
 		}
 
@@ -1420,6 +1428,10 @@ public class Main implements ProblemSeverities, SuffixConstants {
 	public boolean proceedOnError = false;
 	public boolean failOnWarning = false;
 	public boolean produceRefInfo = false;
+	public String incrementalStatePath; // state file of incremental compilations, null if not incremental
+	IncrementalState incrementalState; // set while compiling incrementally
+	public String metricsPath; // file receiving the measurements of the compilation, null if none
+	MetricsWriter metricsWriter;
 	public int currentRepetition, maxRepetition;
 	public boolean showProgress = false;
 	public long startTime;
@@ -1433,7 +1445,7 @@ public class Main implements ProblemSeverities, SuffixConstants {
 	public int timing = TIMING_DISABLED;
 	public CompilerStats[] compilerStats;
 	public boolean verbose = false;
-	private String[] expandedCommandLine;
+	String[] expandedCommandLine;
 
 	private PrintWriter err;
 
@@ -1794,6 +1806,10 @@ public boolean compile(String[] argv) {
 	} finally {
 		this.logger.flush();
 		this.logger.close();
+		if (this.metricsWriter != null) {
+			this.metricsWriter.close();
+			this.metricsWriter = null;
+		}
 		if (this.progress != null)
 			this.progress.done();
 	}
@@ -1846,6 +1862,8 @@ public void configure(String[] argv) {
 	final int INSIDE_RELEASE = 30;
 	final int INSIDE_LIMIT_MODULES = 31;
 	final int INSIDE_MODULE_VERSION = 32;
+	final int INSIDE_INCREMENTAL_STATE = 33;
+	final int INSIDE_METRICS = 34;
 
 	final int DEFAULT = 0;
 	ArrayList<String> bootclasspaths = new ArrayList<>(DEFAULT_SIZE_CLASSPATH);
@@ -2047,6 +2065,20 @@ public void configure(String[] argv) {
 					mode = INSIDE_LOG;
 					continue;
 				}
+				if (currentArg.equals("-incremental")) { //$NON-NLS-1$
+					if (this.incrementalStatePath != null)
+						throw new IllegalArgumentException(
+							this.bind("configure.duplicateIncrementalState", currentArg)); //$NON-NLS-1$
+					mode = INSIDE_INCREMENTAL_STATE;
+					continue;
+				}
+				if (currentArg.equals("-metrics")) { //$NON-NLS-1$
+					if (this.metricsPath != null)
+						throw new IllegalArgumentException(
+							this.bind("configure.duplicateMetrics", currentArg)); //$NON-NLS-1$
+					mode = INSIDE_METRICS;
+					continue;
+				}
 				if (currentArg.equals("-repeat")) { //$NON-NLS-1$
 					if (this.maxRepetition > 0)
 						throw new IllegalArgumentException(
@@ -2576,7 +2608,8 @@ public void configure(String[] argv) {
 					continue;
 				}
 				if (currentArg.equals("-XprintProcessorInfo") //$NON-NLS-1$
-						|| currentArg.equals("-XprintRounds")) { //$NON-NLS-1$
+						|| currentArg.equals("-XprintRounds") //$NON-NLS-1$
+						|| currentArg.equals("-XprintProcessorTime")) { //$NON-NLS-1$
 					mode = DEFAULT;
 					continue;
 				}
@@ -2643,6 +2676,14 @@ public void configure(String[] argv) {
 				this.log = currentArg;
 				mode = DEFAULT;
 				continue;
+			case INSIDE_INCREMENTAL_STATE :
+				this.incrementalStatePath = currentArg;
+				mode = DEFAULT;
+				continue;
+			case INSIDE_METRICS :
+				this.metricsPath = currentArg;
+				mode = DEFAULT;
+				continue;
 			case INSIDE_REPETITION :
 				try {
 					this.maxRepetition = Integer.parseInt(currentArg);
@@ -3019,6 +3060,13 @@ public void configure(String[] argv) {
 	} else {
 		this.showProgress = false;
 	}
+	if (this.metricsPath != null) {
+		try {
+			this.metricsWriter = new MetricsWriter(this, this.metricsPath);
+		} catch (FileNotFoundException e) {
+			throw new IllegalArgumentException(this.bind("configure.cannotOpenMetrics", this.metricsPath), e); //$NON-NLS-1$
+		}
+	}
 	this.logger.logVersion(printVersionRequired);
 
 	validateOptions(didSpecifyCompliance);
@@ -4648,6 +4696,9 @@ private static boolean isParentOf(char[] folderName, char[] fileName) {
 // Dump classfiles onto disk for all compilation units that where successful
 // and do not carry a -d none spec, either directly or inherited from Main.
 public void outputClassFiles(CompilationResult unitResult) {
+	if (this.incrementalState != null && unitResult != null) {
+		this.incrementalState.acceptResult(unitResult, !unitResult.hasErrors() || this.proceedOnError);
+	}
 	if (!((unitResult == null) || (unitResult.hasErrors() && !this.proceedOnError))) {
 		ClassFile[] classFiles = unitResult.getClassFiles();
 		String currentDestinationPath = null;
@@ -4709,7 +4760,18 @@ public void outputClassFiles(CompilationResult unitResult) {
  */
 public void performCompilation() {
 	this.startTime = System.currentTimeMillis();
-
+	if (this.incrementalStatePath != null) {
+		// only compile the units affected by the changes since the previous compilation
+		IncrementalState.compile(this, this.incrementalStatePath);
+	} else {
+		performCompilation(getCompilationUnits());
+	}
+	this.logger.printStats();
+}
+/*
+ *  Compiles the given units, which must be the ones named by this.filenames
+ */
+void performCompilation(CompilationUnit[] compilationUnits) {
 	FileSystem environment = getLibraryAccess();
 	try {
 		this.compilerOptions = new CompilerOptions(this.options);
@@ -4728,6 +4790,9 @@ public void performCompilation() {
 		// temporary code to allow the compiler to revert to a single thread
 		String setting = System.getProperty("jdt.compiler.useSingleThread"); //$NON-NLS-1$
 		this.batchCompiler.useSingleThread = setting != null && setting.equals("true"); //$NON-NLS-1$
+		// experimental code to parse the method bodies of all units concurrently before processing them one at a time
+		this.batchCompiler.parseParallelism = Integer.getInteger("jdt.compiler.parseParallelism", 1).intValue(); //$NON-NLS-1$
+		this.batchCompiler.metricsRequestor = this.metricsWriter;
 
 		if (this.compilerOptions.complianceLevel >= ClassFileConstants.JDK1_6
 				&& this.compilerOptions.processAnnotations) {
@@ -4747,10 +4812,10 @@ public void performCompilation() {
 
 		// set the non-externally configurable options.
 		this.compilerOptions.verbose = this.verbose;
-		this.compilerOptions.produceReferenceInfo = this.produceRefInfo;
+		this.compilerOptions.produceReferenceInfo = this.produceRefInfo || this.incrementalState != null;
 		try {
 			this.logger.startLoggingSources();
-			this.batchCompiler.compile(getCompilationUnits());
+			this.batchCompiler.compile(compilationUnits);
 		} finally {
 			this.logger.endLoggingSources();
 		}
@@ -4762,7 +4827,6 @@ public void performCompilation() {
 		if (this.compilerStats != null) {
 			this.compilerStats[this.currentRepetition] = this.batchCompiler.stats;
 		}
-		this.logger.printStats();
 	}
 	finally {
 	// cleanup
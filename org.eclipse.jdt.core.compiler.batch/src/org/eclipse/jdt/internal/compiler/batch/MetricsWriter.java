@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2024 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.BufferedWriter;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.ICompilerMetricsRequestor;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
+import org.eclipse.jdt.internal.compiler.impl.CompilerStats;
+import org.eclipse.jdt.internal.compiler.impl.UnitStats;
+
+/**
+ * Writes the measurements of the compilations to a file in the JSON lines format, as requested by
+ * the <code>-metrics</code> option.
+ * <p>
+ * Each compiled unit is described by a <code>"unit"</code> record, and each compilation ends with a
+ * <code>"compilation"</code> record which sums up the records of its units. The times of the units are
+ * in microseconds, the ones of the compilation in milliseconds. For example:
+ * <pre>
+ * {"type":"unit","file":"src/p/X.java","lines":12,"parseUs":310,"resolveUs":920,"analyzeUs":85,"generateUs":140,
+ *   "allocatedBytes":524288,"binaryTypes":3,"inferences":2,"inferenceUs":45,"problems":0,"problemUs":0}
+ * {"type":"compilation","units":1,"lines":12,"timeMs":25,"parseMs":2,"resolveMs":9,"analyzeMs":1,"generateMs":3,
+ *   "allocatedBytes":524288,"binaryTypes":3,"inferences":2,"inferenceUs":45,"problems":0,"problemUs":0,
+ *   "cacheHits":0,"cacheMisses":0}
+ * </pre>
+ * The cache hits and misses count the class files read from the jar indexes (see {@link ClasspathJarIndex}),
+ * and the ones that had to be read from the jars themselves.
+ * </p>
+ */
+public class MetricsWriter implements ICompilerMetricsRequestor {
+
+	private final Main main;
+	private final PrintWriter writer;
+	private final UnitStats totals = new UnitStats();
+	private int unitCount;
+
+public MetricsWriter(Main main, String fileName) throws FileNotFoundException {
+	this.main = main;
+	this.writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(fileName, false), StandardCharsets.UTF_8)));
+}
+
+@Override
+public void acceptUnitStats(CompilationResult result, UnitStats stats) {
+	this.unitCount++;
+	this.totals.lineCount += stats.lineCount;
+	if (stats.allocatedBytes < 0 || this.totals.allocatedBytes < 0) {
+		this.totals.allocatedBytes = -1;
+	} else {
+		this.totals.allocatedBytes += stats.allocatedBytes;
+	}
+	this.totals.binaryTypeCount += stats.binaryTypeCount;
+	this.totals.inferenceCount += stats.inferenceCount;
+	this.totals.inferenceTime += stats.inferenceTime;
+	this.totals.problemCount += stats.problemCount;
+	this.totals.problemTime += stats.problemTime;
+
+	StringBuilder record = new StringBuilder(256);
+	record.append("{\"type\":\"unit\",\"file\":"); //$NON-NLS-1$
+	appendString(record, String.valueOf(result.getFileName()));
+	appendValue(record, "lines", stats.lineCount); //$NON-NLS-1$
+	appendValue(record, "parseUs", stats.parseTime / 1000); //$NON-NLS-1$
+	appendValue(record, "resolveUs", stats.resolveTime / 1000); //$NON-NLS-1$
+	appendValue(record, "analyzeUs", stats.analyzeTime / 1000); //$NON-NLS-1$
+	appendValue(record, "generateUs", stats.generateTime / 1000); //$NON-NLS-1$
+	appendCounters(record, stats);
+	this.writer.println(record.append('}'));
+}
+
+@Override
+public void acceptCompilationStats(CompilerStats stats) {
+	int cacheHits = 0, cacheMisses = 0;
+	if (this.main.checkedClasspaths != null) {
+		for (Classpath classpath : this.main.checkedClasspaths) {
+			if (classpath instanceof ClasspathJar) {
+				ClasspathJarIndex index = ((ClasspathJar) classpath).jarIndex;
+				if (index != null) {
+					cacheHits += index.classFileHits;
+					cacheMisses += index.classFileMisses;
+				}
+			}
+		}
+	}
+	StringBuilder record = new StringBuilder(256);
+	record.append("{\"type\":\"compilation\""); //$NON-NLS-1$
+	appendValue(record, "units", this.unitCount); //$NON-NLS-1$
+	appendValue(record, "lines", stats.lineCount); //$NON-NLS-1$
+	appendValue(record, "timeMs", stats.overallTime); //$NON-NLS-1$
+	appendValue(record, "parseMs", stats.parseTime); //$NON-NLS-1$
+	appendValue(record, "resolveMs", stats.resolveTime); //$NON-NLS-1$
+	appendValue(record, "analyzeMs", stats.analyzeTime); //$NON-NLS-1$
+	appendValue(record, "generateMs", stats.generateTime); //$NON-NLS-1$
+	appendCounters(record, this.totals);
+	appendValue(record, "cacheHits", cacheHits); //$NON-NLS-1$
+	appendValue(record, "cacheMisses", cacheMisses); //$NON-NLS-1$
+	this.writer.println(record.append('}'));
+	this.writer.flush();
+	this.unitCount = 0;
+	this.totals.lineCount = 0;
+	this.totals.allocatedBytes = 0;
+	this.totals.binaryTypeCount = 0;
+	this.totals.inferenceCount = 0;
+	this.totals.inferenceTime = 0;
+	this.totals.problemCount = 0;
+	this.totals.problemTime = 0;
+}
+
+private static void appendCounters(StringBuilder record, UnitStats stats) {
+	appendValue(record, "allocatedBytes", stats.allocatedBytes); //$NON-NLS-1$
+	appendValue(record, "binaryTypes", stats.binaryTypeCount); //$NON-NLS-1$
+	appendValue(record, "inferences", stats.inferenceCount); //$NON-NLS-1$
+	appendValue(record, "inferenceUs", stats.inferenceTime / 1000); //$NON-NLS-1$
+	appendValue(record, "problems", stats.problemCount); //$NON-NLS-1$
+	appendValue(record, "problemUs", stats.problemTime / 1000); //$NON-NLS-1$
+}
+
+private static void appendValue(StringBuilder record, String name, long value) {
+	record.append(",\"").append(name).append("\":").append(value); //$NON-NLS-1$ //$NON-NLS-2$
+}
+
+private static void appendString(StringBuilder record, String value) {
+	record.append('"');
+	for (int i = 0, length = value.length(); i < length; i++) {
+		char c = value.charAt(i);
+		switch (c) {
+			case '"' :
+			case '\\' :
+				record.append('\\').append(c);
+				break;
+			default :
+				if (c < 0x20) {
+					record.append(String.format("\\u%04x", Integer.valueOf(c))); //$NON-NLS-1$
+				} else {
+					record.append(c);
+				}
+		}
+	}
+	record.append('"');
+}
+
+public void close() {
+	this.writer.close();
+}
+}
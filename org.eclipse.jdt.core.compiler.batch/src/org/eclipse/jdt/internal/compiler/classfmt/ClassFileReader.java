@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -165,9 +165,7 @@ public static ClassFileReader read(java.util.zip.ZipFile zip, String filename, b
 		return null;
 	}
 	try (InputStream stream = zip.getInputStream(ze)) {
-		URI uri =  URI.create("jar:file://" + toUri(zip.getName()).getRawPath() + "!/" + filename); //$NON-NLS-1$ //$NON-NLS-2$
-		ClassFileReader classFileReader = new ClassFileReader(uri, Util.getInputStreamAsByteArray(stream),
-				filename.toCharArray());
+		ClassFileReader classFileReader = read(zip.getName(), filename, Util.getInputStreamAsByteArray(stream));
 		if (fullyInitialize) {
 			classFileReader.initialize();
 		}
@@ -175,6 +173,15 @@ public static ClassFileReader read(java.util.zip.ZipFile zip, String filename, b
 	}
 }
 
+/**
+ * Answers a reader for the given contents of the <code>filename</code> entry of the zip file <code>zipName</code>,
+ * read from the zip file or from a cache of its contents.
+ */
+public static ClassFileReader read(String zipName, String filename, byte[] classFileBytes) throws ClassFormatException {
+	URI uri =  URI.create("jar:file://" + toUri(zipName).getRawPath() + "!/" + filename); //$NON-NLS-1$ //$NON-NLS-2$
+	return new ClassFileReader(uri, classFileBytes, filename.toCharArray());
+}
+
 /**
  * same as <code>new java.io.File(absoluteNormalFilePath).toURI()</code> if absoluteNormalFilePath is not a directory
  * but faster because it avoid IO for the isDirectory check.
@@ -217,7 +224,18 @@ public ClassFileReader(byte classFileBytes[], char[] fileName) throws ClassForma
  * @exception ClassFormatException
  */
 public ClassFileReader(URI path, byte classFileBytes[], char[] fileName) throws ClassFormatException {
-	this(classFileBytes, fileName, false);
+	this(path, classFileBytes, fileName, false);
+}
+/**
+ * @param path URI pointing to the resource of the .class file
+ * @param classFileBytes Actual bytes of a .class file
+ * @param fileName	Actual name of the file that contains the bytes, can be null
+ * @param fullyInitialize boolean, whether the bytes are fully decoded so that the reader no longer holds onto them
+ *
+ * @exception ClassFormatException
+ */
+public ClassFileReader(URI path, byte classFileBytes[], char[] fileName, boolean fullyInitialize) throws ClassFormatException {
+	this(classFileBytes, fileName, fullyInitialize);
 	this.path = path;
 	if (this.moduleDeclaration != null)
 		this.moduleDeclaration.path = this.path;
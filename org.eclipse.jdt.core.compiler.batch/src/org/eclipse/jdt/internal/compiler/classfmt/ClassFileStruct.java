@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.classfmt;
 
+import org.eclipse.jdt.internal.compiler.util.CharDeduplication;
+
+
 abstract public class ClassFileStruct {
 	byte[] reference;
 	int[] constantPoolOffsets;
@@ -59,8 +62,27 @@ public long u4At(int relativeOffset) {
 	return (((this.reference[position++] & 0xFFL) << 24) | ((this.reference[position++] & 0xFF) << 16) | ((this.reference[position++] & 0xFF) << 8) | (this.reference[position] & 0xFF));
 }
 public char[] utf8At(int relativeOffset, int bytesAvailable) {
-	int length = bytesAvailable;
 	char outputBuf[] = new char[bytesAvailable];
+	int outputPos = decodeUtf8(relativeOffset, bytesAvailable, outputBuf);
+	if (outputPos != bytesAvailable) {
+		System.arraycopy(outputBuf, 0, (outputBuf = new char[outputPos]), 0, outputPos);
+	}
+	return outputBuf;
+}
+/**
+ * Same as {@link #utf8At(int, int)}, but answers the array already answered for an equal name
+ * whenever the {@link CharDeduplication} of the current thread still holds it, so that the names,
+ * descriptors and signatures of the members of binary types are shared across all the class files
+ * read by this thread instead of being retained once per type.
+ * The answer is shared: it must never be modified.
+ */
+public char[] sharedUtf8At(int relativeOffset, int bytesAvailable) {
+	char outputBuf[] = new char[bytesAvailable];
+	int outputPos = decodeUtf8(relativeOffset, bytesAvailable, outputBuf);
+	return CharDeduplication.getThreadLocalInstance().sharedCopyOfRange(outputBuf, 0, outputPos);
+}
+private int decodeUtf8(int relativeOffset, int bytesAvailable, char[] outputBuf) {
+	int length = bytesAvailable;
 	int outputPos = 0;
 	int readOffset = this.structOffset + relativeOffset;
 
@@ -78,10 +100,6 @@ public char[] utf8At(int relativeOffset, int bytesAvailable) {
 		}
 		outputBuf[outputPos++] = (char) x;
 	}
-
-	if (outputPos != bytesAvailable) {
-		System.arraycopy(outputBuf, 0, (outputBuf = new char[outputPos]), 0, outputPos);
-	}
-	return outputBuf;
+	return outputPos;
 }
 }
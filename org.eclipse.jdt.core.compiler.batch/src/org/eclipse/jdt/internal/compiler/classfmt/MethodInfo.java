@@ -281,7 +281,7 @@ public char[] getGenericSignature() {
 	if (this.signatureUtf8Offset != -1) {
 		if (this.signature == null) {
 			// decode the signature
-			this.signature = utf8At(this.signatureUtf8Offset + 3, u2At(this.signatureUtf8Offset + 1));
+			this.signature = sharedUtf8At(this.signatureUtf8Offset + 3, u2At(this.signatureUtf8Offset + 1));
 		}
 		return this.signature;
 	}
@@ -293,7 +293,7 @@ public char[] getMethodDescriptor() {
 	if (this.descriptor == null) {
 		// read the name
 		int utf8Offset = this.constantPoolOffsets[u2At(4)] - this.structOffset;
-		this.descriptor = utf8At(utf8Offset + 3, u2At(utf8Offset + 1));
+		this.descriptor = sharedUtf8At(utf8Offset + 3, u2At(utf8Offset + 1));
 	}
 	return this.descriptor;
 }
@@ -329,7 +329,7 @@ public char[] getSelector() {
 	if (this.name == null) {
 		// read the name
 		int utf8Offset = this.constantPoolOffsets[u2At(2)] - this.structOffset;
-		this.name = utf8At(utf8Offset + 3, u2At(utf8Offset + 1));
+		this.name = sharedUtf8At(utf8Offset + 3, u2At(utf8Offset + 1));
 	}
 	return this.name;
 }
@@ -515,7 +515,7 @@ private void decodeLocalVariableAttribute(int offset, int codeLength) {
 			if (startPC == 0) {
 				int nameIndex = u2At(4 + readOffset);
 				int utf8Offset = this.constantPoolOffsets[nameIndex] - this.structOffset;
-				char[] localVariableName = utf8At(utf8Offset + 3, u2At(utf8Offset + 1));
+				char[] localVariableName = sharedUtf8At(utf8Offset + 3, u2At(utf8Offset + 1));
 				if (!CharOperation.equals(localVariableName, ConstantPool.This)) {
 					names[argumentNamesIndex++] = localVariableName;
 				}
@@ -541,7 +541,7 @@ private void decodeMethodParameters(int offset, MethodInfo methodInfo) {
 			int nameIndex = u2At(readOffset);
 			if (nameIndex != 0) {
 				int utf8Offset = this.constantPoolOffsets[nameIndex] - this.structOffset;
-				char[] parameterName = utf8At(utf8Offset + 3, u2At(utf8Offset + 1));
+				char[] parameterName = sharedUtf8At(utf8Offset + 3, u2At(utf8Offset + 1));
 				names[i] = parameterName;
 			} else {
 				names[i] = CharOperation.concat(ARG, String.valueOf(i).toCharArray());
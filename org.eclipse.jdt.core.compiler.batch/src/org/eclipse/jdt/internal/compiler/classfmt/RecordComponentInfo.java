@@ -175,7 +175,7 @@ public char[] getGenericSignature() {
 	if (this.signatureUtf8Offset != -1) {
 		if (this.signature == null) {
 			// decode the signature
-			this.signature = utf8At(this.signatureUtf8Offset + 3, u2At(this.signatureUtf8Offset + 1));
+			this.signature = sharedUtf8At(this.signatureUtf8Offset + 3, u2At(this.signatureUtf8Offset + 1));
 		}
 		return this.signature;
 	}
@@ -190,7 +190,7 @@ public char[] getName() {
 	if (this.name == null) {
 		// read the name
 		int utf8Offset = this.constantPoolOffsets[u2At(0)] - this.structOffset;
-		this.name = utf8At(utf8Offset + 3, u2At(utf8Offset + 1));
+		this.name = sharedUtf8At(utf8Offset + 3, u2At(utf8Offset + 1));
 	}
 	return this.name;
 }
@@ -214,7 +214,7 @@ public char[] getTypeName() {
 	if (this.descriptor == null) {
 		// read the signature
 		int utf8Offset = this.constantPoolOffsets[u2At(2)] - this.structOffset;
-		this.descriptor = utf8At(utf8Offset + 3, u2At(utf8Offset + 1));
+		this.descriptor = sharedUtf8At(utf8Offset + 3, u2At(utf8Offset + 1));
 	}
 	return this.descriptor;
 }
@@ -7211,6 +7211,7 @@ public void reset(AbstractMethodDeclaration referenceMethod, ClassFile targetCla
 	}
 	this.preserveUnusedLocals = referenceMethod.scope.compilerOptions().preserveAllLocalVariables;
 	initializeMaxLocals(referenceMethod.binding);
+	reserveCodeFor(referenceMethod.bodyEnd - referenceMethod.bodyStart);
 }
 
 public void reset(LambdaExpression lambda, ClassFile targetClassFile) {
@@ -7236,6 +7237,7 @@ public void reset(LambdaExpression lambda, ClassFile targetClassFile) {
 	}
 	this.preserveUnusedLocals = lambda.scope.compilerOptions().preserveAllLocalVariables;
 	initializeMaxLocals(lambda.binding);
+	reserveCodeFor(lambda.body().sourceEnd - lambda.body().sourceStart);
 }
 
 public void reset(ClassFile givenClassFile) {
@@ -7263,6 +7265,26 @@ public void resetInWideMode() {
 public void resetForCodeGenUnusedLocals() {
 	// nothing to do in standard code stream
 }
+/**
+ * Grows the byte array once, before the code of a method or a lambda expression is emitted, to
+ * the size its body is expected to need, so that the instructions are not spread over a series
+ * of resizes that copy the whole class file contents each time.
+ * Roughly one byte of code is emitted for every two characters of a method body.
+ *
+ * @param sourceLength the number of source characters of the body
+ */
+private void reserveCodeFor(int sourceLength) {
+	if (sourceLength <= 0) return;
+	int requiredSize = this.classFileOffset + (sourceLength >> 1);
+	int length = this.bCodeStream.length;
+	if (requiredSize > length) {
+		if (requiredSize < length + length) {
+			requiredSize = length + length;
+		}
+		System.arraycopy(this.bCodeStream, 0, this.bCodeStream = new byte[requiredSize], 0, this.classFileOffset);
+	}
+}
+
 private final void resizeByteArray() {
 	int length = this.bCodeStream.length;
 	int requiredSize = length + length;
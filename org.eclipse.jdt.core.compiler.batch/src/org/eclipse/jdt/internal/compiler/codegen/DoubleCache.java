@@ -40,7 +40,8 @@ public DoubleCache(int initialCapacity) {
  * Clears the hash table so that it has no more elements in it.
  */
 public void clear() {
-	for (int i = this.keyTable.length; --i >= 0;) {
+	// only the first elementSize entries are ever used
+	for (int i = this.elementSize; --i >= 0;) {
 		this.keyTable[i] = 0.0;
 		this.valueTable[i] = 0;
 	}
@@ -42,6 +42,7 @@ public IntegerCache(int initialCapacity) {
  * Clears the hash table so that it has no more elements in it.
  */
 public void clear() {
+	if (this.elementSize == 0) return;
 	for (int i = this.keyTable.length; --i >= 0;) {
 		this.keyTable[i] = 0;
 		this.valueTable[i] = 0;
@@ -161,12 +161,12 @@ public class TypeAnnotationCodeStream extends StackMapFrameCodeStream {
 	@Override
 	public void reset(ClassFile givenClassFile) {
 		super.reset(givenClassFile);
-		this.allTypeAnnotationContexts = new ArrayList<>();
+		this.allTypeAnnotationContexts.clear();
 	}
 
 	@Override
 	public void init(ClassFile targetClassFile) {
 		super.init(targetClassFile);
-		this.allTypeAnnotationContexts = new ArrayList<>();
+		this.allTypeAnnotationContexts.clear();
 	}
 }
@@ -107,6 +107,9 @@ public class UnconditionalFlowInfo extends FlowInfo {
 		// extra[DEFINN] is iDefNNBit
 		// lifecycle is extra == null or else all extra[]'s are allocated
 		// arrays which have the same size
+	private int[] extraSharers;
+		// copies share the arrays of extra until either side writes to them:
+		// extraSharers[0] counts the flow infos sharing them, null when not shared
 
 	public int maxFieldCount; // limit between fields and locals
 
@@ -246,6 +249,7 @@ private FlowInfo addInfoFrom(FlowInfo inits, boolean handleInits) {
 		this.tagBits |= NULL_FLAG_MASK; // in all cases - avoid forgetting extras
 	}
 	// treating extra storage
+	unshareExtra();
 	if (this.extra != null || otherInits.extra != null) {
 		int mergeLimit = 0, copyLimit = 0;
 		if (this.extra != null) {
@@ -428,6 +432,7 @@ public FlowInfo addPotentialInitializationsFrom(FlowInfo inits) {
 	// union of potentially set ones
 	this.potentialInits |= otherInits.potentialInits;
 	// treating extra storage
+	unshareExtra();
 	if (this.extra != null) {
 		if (otherInits.extra != null) {
 			// both sides have extra storage
@@ -541,6 +546,7 @@ public UnconditionalFlowInfo addPotentialNullInfoFrom(
 	// extra storage management
 	if (otherInits.extra != null) {
 		int mergeLimit = 0, copyLimit = otherInits.extra[0].length;
+		unshareExtra();
 		if (this.extra == null) {
 			createExtraSpace(copyLimit);
 			if (COVERAGE_TEST_FLAG) {
@@ -652,6 +658,7 @@ public void acceptIncomingNullnessFrom(UnconditionalFlowInfo other) {
 			this.nullBit4 &= nAcceptN;	// 0
 		}
 	}
+	unshareExtra();
 	if (this.extra != null && other.extra != null) {
 		int max = Math.min(this.extra[0].length, other.extra[0].length);
 		for (int i = 0; i < max; i++) {
@@ -794,28 +801,19 @@ public FlowInfo copy() {
 	copy.tagBits = this.tagBits;
 	copy.maxFieldCount = this.maxFieldCount;
 	if (this.extra != null) {
-		int length;
-		copy.extra = new long[extraLength][];
-		System.arraycopy(this.extra[0], 0,
-			(copy.extra[0] = new long[length = this.extra[0].length]), 0,
-			length);
-		System.arraycopy(this.extra[1], 0,
-			(copy.extra[1] = new long[length]), 0, length);
-		if (hasNullInfo) {
-			for (int j = 2; j < 6; j++) {
-				System.arraycopy(this.extra[j], 0,
-					(copy.extra[j] = new long[length]), 0, length);
-			}
-		}
-		else {
+		// share the arrays of extra, see unshareExtra()
+		copy.extra = this.extra.clone();
+		if (!hasNullInfo) {
+			int length = this.extra[0].length;
 			for (int j = 2; j < 6; j++) {
 				copy.extra[j] = new long[length];
 			}
 		}
-		System.arraycopy(this.extra[IN], 0, (copy.extra[IN] = new long[length]), 0, length);
-		System.arraycopy(this.extra[INN], 0, (copy.extra[INN] = new long[length]), 0, length);
-		System.arraycopy(this.extra[DEFIN], 0, (copy.extra[DEFIN] = new long[length]), 0, length);
-		System.arraycopy(this.extra[DEFINN], 0, (copy.extra[DEFINN] = new long[length]), 0, length);
+		if (this.extraSharers == null) {
+			this.extraSharers = new int[] { 1 };
+		}
+		this.extraSharers[0]++;
+		copy.extraSharers = this.extraSharers;
 	}
 	return copy;
 }
@@ -831,6 +829,7 @@ public UnconditionalFlowInfo discardInitializationInfo() {
 	}
 	this.definiteInits =
 		this.potentialInits = 0;
+	unshareExtra();
 	if (this.extra != null) {
 		for (int i = 0, length = this.extra[0].length; i < length; i++) {
 			this.extra[0][i] = this.extra[1][i] = 0;
@@ -859,6 +858,7 @@ public UnconditionalFlowInfo discardNonFieldInitializations() {
 		this.iDefNNBit &= mask;
 	}
 	// use extra vector
+	unshareExtra();
 	if (this.extra == null) {
 		return this; // if vector not yet allocated, then not initialized
 	}
@@ -1271,6 +1271,7 @@ public void markAsComparedEqualToNonNull(LocalVariableBinding local) {
 		else {
 			// use extra vector
 			int vectorIndex = (position / BitCacheSize) - 1;
+			unshareExtra();
 			if (this.extra == null) {
 				int length = vectorIndex + 1;
 				createExtraSpace(length);
@@ -1365,6 +1366,7 @@ public void markAsComparedEqualToNull(LocalVariableBinding local) {
 			// use extra vector
 			int vectorIndex = (position / BitCacheSize) - 1;
 			mask = 1L << (position % BitCacheSize);
+			unshareExtra();
 			if (this.extra == null) {
 				int length = vectorIndex + 1;
 				createExtraSpace(length);
@@ -1425,6 +1427,7 @@ final private void markAsDefinitelyAssigned(int position) {
 		else {
 			// use extra vector
 			int vectorIndex = (position / BitCacheSize) - 1;
+			unshareExtra();
 			if (this.extra == null) {
 				int length = vectorIndex + 1;
 				createExtraSpace(length);
@@ -1483,6 +1486,7 @@ public void markAsDefinitelyNonNull(LocalVariableBinding local) {
     	else {
     		// use extra vector
     		int vectorIndex = (position / BitCacheSize) - 1;
+    		unshareExtra();
     		if (this.extra == null) {
     			int length = vectorIndex + 1;
     			createExtraSpace(length);
@@ -1539,6 +1543,7 @@ public void markAsDefinitelyNull(LocalVariableBinding local) {
     	else {
     		// use extra vector
     		int vectorIndex = (position / BitCacheSize) - 1;
+    		unshareExtra();
     		if (this.extra == null) {
     			int length = vectorIndex + 1;
     			createExtraSpace(length);
@@ -1603,6 +1608,7 @@ public void markAsDefinitelyUnknown(LocalVariableBinding local) {
 		else {
 			// use extra vector
 			int vectorIndex = (position / BitCacheSize) - 1;
+			unshareExtra();
 			if (this.extra == null) {
 				int length = vectorIndex + 1;
 				createExtraSpace(length);
@@ -1651,6 +1657,7 @@ public void resetNullInfo(LocalVariableBinding local) {
         } else {
     		// use extra vector
     		int vectorIndex = (position / BitCacheSize) - 1;
+    		unshareExtra();
     		if (this.extra == null || vectorIndex >= this.extra[2].length) {
     			// in case we attempt to reset the null info of a variable that has not been encountered
     			// before and for which no null bits exist.
@@ -1691,6 +1698,7 @@ public void markPotentiallyUnknownBit(LocalVariableBinding local) {
         } else {
     		// use extra vector
     		int vectorIndex = (position / BitCacheSize) - 1;
+    		unshareExtra();
     		if (this.extra == null) {
 				int length = vectorIndex + 1;
 				createExtraSpace(length);
@@ -1736,6 +1744,7 @@ public void markPotentiallyNullBit(LocalVariableBinding local) {
         } else {
     		// use extra vector
     		int vectorIndex = (position / BitCacheSize) - 1;
+    		unshareExtra();
     		if (this.extra == null) {
 				int length = vectorIndex + 1;
 				createExtraSpace(length);
@@ -1781,6 +1790,7 @@ public void markPotentiallyNonNullBit(LocalVariableBinding local) {
         } else {
     		// use extra vector
     		int vectorIndex  = (position / BitCacheSize) - 1;
+    		unshareExtra();
     		if (this.extra == null) {
 				int length = vectorIndex + 1;
 				createExtraSpace(length);
@@ -1924,6 +1934,7 @@ public UnconditionalFlowInfo mergedWith(UnconditionalFlowInfo otherInits) {
 	}
 
 	// treating extra storage
+	unshareExtra();
 	if (this.extra != null || otherInits.extra != null) {
 		// three areas, but not all combinations are possible: only one of copyLimit/resetLimit will be > 0
 		int mergeLimit = 0; // [0..mergeLimit]			: both flows have extra bits. Merge'em
@@ -2186,6 +2197,7 @@ public FlowInfo setReachMode(int reachMode) {
 			// reset optional inits when becoming unreachable
 			// see InitializationTest#test090 (and others)
 			this.potentialInits = 0;
+			unshareExtra();
 			if (this.extra != null) {
 				for (int i = 0, length = this.extra[0].length;
 						i < length; i++) {
@@ -2351,6 +2363,7 @@ public UnconditionalFlowInfo mergeDefiniteInitsWith(UnconditionalFlowInfo otherI
 
 	// intersection of definitely assigned variables,
 	this.definiteInits &= otherInits.definiteInits;
+	unshareExtra();
 	if (this.extra != null) {
 		if (otherInits.extra != null) {
 			// both sides have extra storage
@@ -2405,6 +2418,7 @@ public void resetAssignmentInfo(int position) {
 		} else {
 			// use extra vector
 			int vectorIndex = (position / BitCacheSize) - 1;
+			unshareExtra();
 			if (this.extra == null || vectorIndex >= this.extra[0].length) return;	// variable doesnt exist in flow info
 			long mask;
 			this.extra[0][vectorIndex] &=
@@ -2414,6 +2428,22 @@ public void resetAssignmentInfo(int position) {
 	}
 }
 
+/**
+ * Make the arrays of extra owned by this flow info only, before writing to them.
+ * The copies of a flow info share these arrays with it until either side writes to them.
+ */
+private void unshareExtra() {
+	if (this.extraSharers != null) {
+		if (--this.extraSharers[0] > 0) {
+			// still used by other flow infos
+			for (int j = 0; j < extraLength; j++) {
+				this.extra[j] = this.extra[j].clone();
+			}
+		}
+		this.extraSharers = null;
+	}
+}
+
 private void createExtraSpace(int length) {
 	this.extra = new long[extraLength][];
 	for (int j = 0; j < extraLength; j++) {
@@ -2446,6 +2476,7 @@ public void acceptAllIncomingNullness() {
 	this.iNNBit = -1L;
 	this.iDefNBit = -1L;
 	this.iDefNNBit = -1L;
+	unshareExtra();
 	if (this.extra != null) {
 		Arrays.fill(this.extra[IN], -1L);
 		Arrays.fill(this.extra[INN], -1L);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,10 @@ public class CompilerStats implements Comparable {
 	public long analyzeTime;
 	public long generateTime;
 
+	// hand-off between the processing and writing threads
+	public long processingStalls; // number of times the processing thread waited for queue capacity
+	public long writingStalls; // number of times the writing thread waited for a processed unit
+
 /**
  * Returns the total elapsed time (between start and end)
  * @return the time spent between start and end
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2024 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measurements of the compilation of a single unit. They are only collected when the compiler
+ * has a {@link org.eclipse.jdt.internal.compiler.ICompilerMetricsRequestor}, and are attached to the
+ * {@link org.eclipse.jdt.internal.compiler.CompilationResult} of the unit until it is accepted.
+ * <p>
+ * All times are in nanoseconds. The phases of a unit may run on different threads, the allocated
+ * bytes are the sum of the allocations made by these threads during the phases of the unit, or
+ * <code>-1</code> if the VM cannot measure them.
+ * </p>
+ */
+public class UnitStats {
+
+	// compile phases
+	public long parseTime;
+	public long resolveTime;
+	public long analyzeTime;
+	public long generateTime;
+	public long allocatedBytes;
+
+	public int lineCount;
+	public int binaryTypeCount; // binary types created while completing this unit
+
+	// type inference (1.8+), nested inferences are only timed once
+	public long inferenceTime;
+	public int inferenceCount;
+	private int inferenceDepth;
+
+	// problem reporting, the time includes the problems which end up being ignored
+	public long problemTime;
+	public int problemCount; // problems recorded against this unit
+
+	private static final MethodHandle ALLOCATED_BYTES = allocatedBytesHandle();
+
+private static MethodHandle allocatedBytesHandle() {
+	try {
+		Object threadBean = ManagementFactory.getThreadMXBean();
+		Class<?> beanClass = Class.forName("com.sun.management.ThreadMXBean"); //$NON-NLS-1$
+		if (!beanClass.isInstance(threadBean))
+			return null;
+		MethodHandle handle = MethodHandles.publicLookup().findVirtual(beanClass, "getCurrentThreadAllocatedBytes", MethodType.methodType(long.class)); //$NON-NLS-1$
+		handle = handle.bindTo(threadBean);
+		return (long) handle.invokeExact() < 0 ? null : handle;
+	} catch (Throwable e) {
+		// not available on this VM
+		return null;
+	}
+}
+
+/**
+ * Answers the number of bytes allocated so far by the current thread, or <code>-1</code>
+ * if the VM cannot measure it.
+ */
+public static long currentThreadAllocatedBytes() {
+	if (ALLOCATED_BYTES == null)
+		return -1;
+	try {
+		return (long) ALLOCATED_BYTES.invokeExact();
+	} catch (Throwable e) {
+		return -1;
+	}
+}
+
+/**
+ * Records the bytes allocated by the current thread since the given measurement.
+ */
+public void allocated(long startBytes) {
+	if (startBytes < 0 || this.allocatedBytes < 0) {
+		this.allocatedBytes = -1;
+	} else {
+		this.allocatedBytes += currentThreadAllocatedBytes() - startBytes;
+	}
+}
+
+/**
+ * Answers the start time of an inference, or <code>0</code> if it is nested in another one.
+ */
+public long startInference() {
+	this.inferenceCount++;
+	return this.inferenceDepth++ == 0 ? System.nanoTime() : 0;
+}
+
+public void endInference(long startTime) {
+	this.inferenceDepth--;
+	if (startTime != 0)
+		this.inferenceTime += System.nanoTime() - startTime;
+}
+}
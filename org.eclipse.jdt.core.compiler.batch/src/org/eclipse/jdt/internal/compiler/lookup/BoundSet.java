@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -343,6 +344,49 @@ class BoundSet {
 	private TypeBound[] unincorporatedBounds = new TypeBound[8];
 	private int unincorporatedBoundsCount = 0;
 	private final TypeBound[] mostRecentBounds = new TypeBound[4]; // for quick & dirty duplicate elimination
+	/**
+	 * The constraints derived during incorporation which have been reduced successfully against this bound set.
+	 * Reducing a type constraint does not depend on the current bounds and bounds are never removed, so reducing
+	 * one of these again would only add bounds which are present already.
+	 * Not shared with copies, so that every copy starts with a clean slate.
+	 */
+	private Set<ReducedConstraint> reducedConstraints;
+
+	/** Key for {@link #reducedConstraints}, comparing the types like {@link ConstraintTypeFormula#equalsEquals(ConstraintTypeFormula)} does. */
+	private static final class ReducedConstraint {
+		private final TypeBinding left;
+		private final TypeBinding right;
+		private final int relation;
+		private final boolean isSoft;
+
+		ReducedConstraint(ConstraintTypeFormula formula) {
+			// copy the fields, formulas are mutable (see ConstraintTypeFormula.applySubstitution())
+			this.left = formula.left;
+			this.right = formula.right;
+			this.relation = formula.relation;
+			this.isSoft = formula.isSoft;
+		}
+
+		private static int hash(TypeBinding type) {
+			// consistent with TypeBinding.equalsEquals(), which considers types with the same id equal
+			return type.id != TypeIds.NoId ? type.id : System.identityHashCode(type);
+		}
+
+		@Override
+		public int hashCode() {
+			return (hash(this.left) * 31 + hash(this.right)) * 31 + this.relation;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof ReducedConstraint) {
+				ReducedConstraint other = (ReducedConstraint) obj;
+				return this.relation == other.relation && this.isSoft == other.isSoft
+						&& TypeBinding.equalsEquals(this.left, other.left) && TypeBinding.equalsEquals(this.right, other.right);
+			}
+			return false;
+		}
+	}
 
 	public BoundSet() {}
 
@@ -613,7 +657,7 @@ class BoundSet {
 						mostRecentFormulas[1] = mostRecentFormulas[0];
 						mostRecentFormulas[0] = newConstraint;
 
-						if (!reduceOneConstraint(context, newConstraint))
+						if (!reduceDerivedConstraint(context, newConstraint, analyzeNull))
 							return false;
 
 						if (analyzeNull) {
@@ -630,10 +674,10 @@ class BoundSet {
 							}
 						}
 					}
-					ConstraintFormula[] typeArgumentConstraints = deriveTypeArgumentConstraints ? deriveTypeArgumentConstraints(boundI, boundJ) : null;
+					ConstraintTypeFormula[] typeArgumentConstraints = deriveTypeArgumentConstraints ? deriveTypeArgumentConstraints(boundI, boundJ) : null;
 					if (typeArgumentConstraints != null) {
 						for (int k = 0, length = typeArgumentConstraints.length; k < length; k++) {
-							if (!reduceOneConstraint(context, typeArgumentConstraints[k]))
+							if (!reduceDerivedConstraint(context, typeArgumentConstraints[k], analyzeNull))
 								return false;
 						}
 					}
@@ -981,6 +1025,29 @@ class BoundSet {
 		return null;
 	}
 
+	/**
+	 * Reduce a constraint derived during incorporation, unless an equal constraint has been reduced before.
+	 * The same constraints are derived again and again from the pairs of bounds of the later generations,
+	 * in particular for nested generic method invocations.
+	 * <p>
+	 * With annotation based null analysis reducing again may still merge null annotations into the existing
+	 * bounds, every constraint is reduced then.
+	 * </p>
+	 */
+	private boolean reduceDerivedConstraint(InferenceContext18 context, ConstraintTypeFormula constraint, boolean analyzeNull) throws InferenceFailureException {
+		if (analyzeNull)
+			return reduceOneConstraint(context, constraint);
+		ReducedConstraint key = new ReducedConstraint(constraint);
+		if (this.reducedConstraints == null)
+			this.reducedConstraints = new HashSet<>();
+		else if (this.reducedConstraints.contains(key))
+			return true;
+		if (!reduceOneConstraint(context, constraint))
+			return false;
+		this.reducedConstraints.add(key);
+		return true;
+	}
+
 	/**
 	 * Try to reduce the one given constraint.
 	 * If a constraint produces further constraints reduce those recursively.
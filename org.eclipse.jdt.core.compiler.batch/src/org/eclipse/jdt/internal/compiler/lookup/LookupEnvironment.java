@@ -1063,6 +1063,9 @@ public BinaryTypeBinding createBinaryTypeFrom(IBinaryType binaryType, PackageBin
 	packageBinding.addType(binaryBinding);
 	setAccessRestriction(binaryBinding, accessRestriction);
 	binaryBinding.cachePartsFrom(binaryType, needFieldsAndMethods);
+	CompilationUnitDeclaration unit = this.root.unitBeingCompleted;
+	if (unit != null && unit.compilationResult.stats != null)
+		unit.compilationResult.stats.binaryTypeCount++;
 	return binaryBinding;
 }
 
@@ -30,13 +30,16 @@
 package org.eclipse.jdt.internal.compiler.lookup;
 
 import org.eclipse.jdt.internal.compiler.ast.ASTNode;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
 import org.eclipse.jdt.internal.compiler.ast.Expression;
 import org.eclipse.jdt.internal.compiler.ast.Invocation;
+import org.eclipse.jdt.internal.compiler.ast.LambdaExpression;
 import org.eclipse.jdt.internal.compiler.ast.NullAnnotationMatching;
 import org.eclipse.jdt.internal.compiler.ast.ReferenceExpression;
 import org.eclipse.jdt.internal.compiler.ast.Wildcard;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.impl.UnitStats;
 
 /**
  * Binding denoting a generic method after type parameter substitutions got performed.
@@ -203,6 +206,52 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 	}
 
 	public static MethodBinding computeCompatibleMethod18(MethodBinding originalMethod, TypeBinding[] arguments, final Scope scope, InvocationSite invocationSite) {
+		CompilationUnitDeclaration unit = scope.referenceCompilationUnit();
+		UnitStats unitStats = unit == null ? null : unit.compilationResult.stats;
+		if (unitStats == null)
+			return inferInvocation18(originalMethod, arguments, scope, invocationSite);
+		long inferenceStart = unitStats.startInference();
+		try {
+			return inferInvocation18(originalMethod, arguments, scope, invocationSite);
+		} finally {
+			unitStats.endInference(inferenceStart);
+		}
+	}
+
+	/**
+	 * 15.12.2.1: Answer whether an implicitly typed lambda expression argument has a different arity than the
+	 * function type of its parameter, i.e. whether inference of applicability is bound to fail.
+	 * <p>
+	 * Only lambda expressions before any other poly expression argument are considered: their constraints are
+	 * reduced first (see {@link InferenceContext18#createInitialConstraintsForParameters(TypeBinding[], boolean, TypeBinding, MethodBinding)}),
+	 * so that the inference would fail without having reported anything. Variable arity methods are left to the inference.
+	 * </p>
+	 */
+	private static boolean hasLambdaOfWrongArity(MethodBinding originalMethod, TypeBinding[] arguments, Scope scope) {
+		TypeBinding[] parameters = originalMethod.parameters;
+		if (originalMethod.isVarargs() || arguments.length != parameters.length)
+			return false;
+		for (int i = 0, length = arguments.length; i < length; i++) {
+			if (!(arguments[i] instanceof PolyTypeBinding))
+				continue;
+			if (!(((PolyTypeBinding) arguments[i]).expression instanceof LambdaExpression))
+				return false;
+			LambdaExpression lambda = (LambdaExpression) ((PolyTypeBinding) arguments[i]).expression;
+			if (!lambda.argumentsTypeElided())
+				return false;
+			TypeBinding parameter = parameters[i];
+			if (parameter.kind() == Binding.PARAMETERIZED_TYPE)
+				parameter = parameter.original();
+			if (!(parameter instanceof ReferenceBinding) || parameter.isTypeVariable() || !parameter.isInterface())
+				continue; // no function type independent of the inference
+			MethodBinding sam = parameter.getSingleAbstractMethod(scope, true);
+			if (sam != null && sam.isValidBinding() && sam.parameters.length != lambda.arguments().length)
+				return true;
+		}
+		return false;
+	}
+
+	private static MethodBinding inferInvocation18(MethodBinding originalMethod, TypeBinding[] arguments, final Scope scope, InvocationSite invocationSite) {
 
 		TypeVariableBinding[] typeVariables = originalMethod.typeVariables;
 		if (invocationSite.checkingPotentialCompatibility()) {
@@ -214,6 +263,8 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 		InferenceContext18 infCtx18 = invocationSite.freshInferenceContext(scope);
 		if (infCtx18 == null)
 			return originalMethod;  // per parity with old F & G integration.
+		if (hasLambdaOfWrongArity(originalMethod, arguments, scope))
+			return null; // not potentially applicable, spare setting up the inference
 		TypeBinding[] parameters = originalMethod.parameters;
 		CompilerOptions compilerOptions = scope.compilerOptions();
 		boolean invocationTypeInferred = false;
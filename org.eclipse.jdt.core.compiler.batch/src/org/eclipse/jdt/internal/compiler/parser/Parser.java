@@ -31,12 +31,12 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.parser;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -632,47 +632,57 @@ public class Parser implements TerminalTokens, ParserBasicInformation, Conflicte
 	public final static void initTables() throws java.io.IOException {
 
 		final String prefix = FILEPREFIX;
-		int i = 0;
-		lhs = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		char[] chars = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
+		lhs = readTable(prefix + 1 + ".rsc"); //$NON-NLS-1$
+		char[] chars = readTable(prefix + 2 + ".rsc"); //$NON-NLS-1$
 		check_table = new short[chars.length];
 		for (int c = chars.length; c-- > 0;) {
 			check_table[c] = (short) (chars[c] - 32768);
 		}
-		asb = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		asr = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		nasb = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		nasr = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		terminal_index = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		non_terminal_index = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		term_action = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
+		asb = readTable(prefix + 3 + ".rsc"); //$NON-NLS-1$
+		asr = readTable(prefix + 4 + ".rsc"); //$NON-NLS-1$
+		terminal_index = readTable(prefix + 7 + ".rsc"); //$NON-NLS-1$
+		non_terminal_index = readTable(prefix + 8 + ".rsc"); //$NON-NLS-1$
+		term_action = readTable(prefix + 9 + ".rsc"); //$NON-NLS-1$
 
-		scope_prefix = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_suffix = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_lhs = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_state_set = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_rhs = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_state = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		in_symb = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
+		rhs = readByteTable(prefix + 17 + ".rsc"); //$NON-NLS-1$
+		term_check = readTable(prefix + 18 + ".rsc"); //$NON-NLS-1$
 
-		rhs = readByteTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		term_check = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_la = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
+		name = readNameTable(prefix + 20 + ".rsc"); //$NON-NLS-1$
 
-		name = readNameTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
+		base_action = lhs;
+	}
+	/**
+	 * Loads the tables that are only needed to diagnose and to recover from syntax errors: the
+	 * scopes, the non terminal actions, the readable names and the recovery templates. They are
+	 * loaded by {@link org.eclipse.jdt.internal.compiler.parser.diagnose.DiagnoseParser} the first
+	 * time a syntax error is reported, so that a parse without error does not pay for them.
+	 */
+	public final static void initRecoveryTables() throws java.io.IOException {
 
-		rules_compliance = readLongTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
+		final String prefix = FILEPREFIX;
+		nasb = readTable(prefix + 5 + ".rsc"); //$NON-NLS-1$
+		nasr = readTable(prefix + 6 + ".rsc"); //$NON-NLS-1$
+
+		scope_prefix = readTable(prefix + 10 + ".rsc"); //$NON-NLS-1$
+		scope_suffix = readTable(prefix + 11 + ".rsc"); //$NON-NLS-1$
+		scope_lhs = readTable(prefix + 12 + ".rsc"); //$NON-NLS-1$
+		scope_state_set = readTable(prefix + 13 + ".rsc"); //$NON-NLS-1$
+		scope_rhs = readTable(prefix + 14 + ".rsc"); //$NON-NLS-1$
+		scope_state = readTable(prefix + 15 + ".rsc"); //$NON-NLS-1$
+		in_symb = readTable(prefix + 16 + ".rsc"); //$NON-NLS-1$
+
+		scope_la = readTable(prefix + 19 + ".rsc"); //$NON-NLS-1$
+
+		rules_compliance = readLongTable(prefix + 21 + ".rsc"); //$NON-NLS-1$
 
 		readableName = readReadableNameTable(READABLE_NAMES_FILE + ".props"); //$NON-NLS-1$
 
 		reverse_index = computeReverseTable(terminal_index, non_terminal_index, name);
 
-		recovery_templates_index = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		recovery_templates = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-
-		statements_recovery_filter = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
+		recovery_templates_index = readTable(prefix + 22 + ".rsc"); //$NON-NLS-1$
+		recovery_templates = readTable(prefix + 23 + ".rsc"); //$NON-NLS-1$
 
-		base_action = lhs;
+		statements_recovery_filter = readTable(prefix + 24 + ".rsc"); //$NON-NLS-1$
 	}
 	public static int nasi(int state) {
 		return nasb[original_state(state)];
@@ -688,51 +698,24 @@ public class Parser implements TerminalTokens, ParserBasicInformation, Conflicte
 
 		//files are located at Parser.class directory
 
-		byte[] bytes = null;
 		try (InputStream stream = Parser.class.getResourceAsStream(filename)) {
 			if (stream == null) {
 				throw new java.io.IOException(Messages.bind(Messages.parser_missingFile, filename));
 			}
-			bytes = Util.getInputStreamAsByteArray(new BufferedInputStream(stream));
+			return Util.getInputStreamAsByteArray(stream);
 		}
-		return bytes;
 	}
 	protected static long[] readLongTable(String filename) throws java.io.IOException {
-
-		//files are located at Parser.class directory
-
-		byte[] bytes = null;
-		try (InputStream stream = Parser.class.getResourceAsStream(filename)){
-			if (stream == null) {
-				throw new java.io.IOException(Messages.bind(Messages.parser_missingFile, filename));
-			}
-			bytes = Util.getInputStreamAsByteArray(new BufferedInputStream(stream));
-		}
+		byte[] bytes = readByteTable(filename);
 
 		//minimal integrity check (even size expected)
 		int length = bytes.length;
 		if (length % 8 != 0)
 			throw new java.io.IOException(Messages.bind(Messages.parser_corruptedFile, filename));
 
-		// convert bytes into longs
+		// convert bytes into longs, big endian
 		long[] longs = new long[length / 8];
-		int i = 0;
-		int longIndex = 0;
-
-		while (true) {
-			longs[longIndex++] =
-			  (((long) (bytes[i++] & 0xFF)) << 56)
-			+ (((long) (bytes[i++] & 0xFF)) << 48)
-			+ (((long) (bytes[i++] & 0xFF)) << 40)
-			+ (((long) (bytes[i++] & 0xFF)) << 32)
-			+ (((long) (bytes[i++] & 0xFF)) << 24)
-			+ (((long) (bytes[i++] & 0xFF)) << 16)
-			+ (((long) (bytes[i++] & 0xFF)) << 8)
-			+ (bytes[i++] & 0xFF);
-
-			if (i == length)
-				break;
-		}
+		ByteBuffer.wrap(bytes).asLongBuffer().get(longs);
 		return longs;
 	}
 
@@ -770,32 +753,16 @@ public class Parser implements TerminalTokens, ParserBasicInformation, Conflicte
 		return result;
 	}
 	protected static char[] readTable(String filename) throws java.io.IOException {
-
-		//files are located at Parser.class directory
-
-		byte[] bytes = null;
-		try (InputStream stream = Parser.class.getResourceAsStream(filename)) {
-			if (stream == null) {
-				throw new java.io.IOException(Messages.bind(Messages.parser_missingFile, filename));
-			}
-			bytes = Util.getInputStreamAsByteArray(new BufferedInputStream(stream));
-		}
+		byte[] bytes = readByteTable(filename);
 
 		//minimal integrity check (even size expected)
 		int length = bytes.length;
 		if ((length & 1) != 0)
 			throw new java.io.IOException(Messages.bind(Messages.parser_corruptedFile, filename));
 
-		// convert bytes into chars
+		// convert bytes into chars, big endian
 		char[] chars = new char[length / 2];
-		int i = 0;
-		int charIndex = 0;
-
-		while (true) {
-			chars[charIndex++] = (char) (((bytes[i++] & 0xFF) << 8) + (bytes[i++] & 0xFF));
-			if (i == length)
-				break;
-		}
+		ByteBuffer.wrap(bytes).asCharBuffer().get(chars);
 		return chars;
 	}
 	public static int tAction(int state, int sym) {
@@ -1274,6 +1274,17 @@ protected int getNextToken0() throws InvalidInputException {
 			int offset;
 			int unicodePtr;
 			boolean checkIfUnicode = false;
+			// fast path over the runs of spaces and tabs, like indentations, which need no other processing
+			int blankEnd = whiteStart;
+			for (int end = Math.min(this.eofPosition, this.source.length); blankEnd < end; blankEnd++) {
+				char c = this.source[blankEnd];
+				if (c != ' ' && c != '\t')
+					break;
+			}
+			if (blankEnd != whiteStart) {
+				this.currentPosition = blankEnd;
+				hasWhiteSpaces = true;
+			}
 			do {
 				unicodePtr = this.withoutUnicodePtr;
 				offset = this.currentPosition;
@@ -1519,6 +1530,20 @@ protected int getNextToken0() throws InvalidInputException {
 									if (this.source[this.currentPosition] == '\\')
 										this.currentPosition++;
 								} //jump over the \\
+								// fast path over the characters of the line that need no processing
+								if (this.currentCharacter != '\r' && this.currentCharacter != '\n') {
+									int pos = this.currentPosition;
+									for (int end = Math.min(this.eofPosition, this.source.length); pos < end; pos++) {
+										char c = this.source[pos];
+										if (c == '\r' || c == '\n' || c == '\\')
+											break;
+									}
+									if (pos != this.currentPosition) {
+										this.lastCommentLinePosition = pos - 1;
+										this.currentCharacter = this.source[pos - 1];
+										this.currentPosition = pos;
+									}
+								}
 								boolean isUnicode = false;
 								while (this.currentCharacter != '\r' && this.currentCharacter != '\n') {
 									if (this.currentPosition >= this.eofPosition) {
@@ -1666,6 +1691,17 @@ protected int getNextToken0() throws InvalidInputException {
 										default:
 											star = false;
 									}
+									// fast path over the characters of the comment that need no processing
+									int pos = this.currentPosition;
+									for (int end = Math.min(this.eofPosition, this.source.length) - 1; pos < end; pos++) {
+										char c = this.source[pos];
+										if (c == '*' || c == '/' || c == '@' || c == '\r' || c == '\n' || c == '\\')
+											break;
+									}
+									if (pos != this.currentPosition) {
+										this.currentPosition = pos;
+										star = false;
+									}
 									//get next char
 									previous = this.currentPosition;
 									if (((this.currentCharacter = this.source[this.currentPosition++]) == '\\')
@@ -2336,6 +2372,20 @@ public final void jumpOverBody() {
 									if (this.source[this.currentPosition] == '\\')
 										this.currentPosition++;
 								} //jump over the \\
+								// fast path over the characters of the line that need no processing
+								if (this.currentCharacter != '\r' && this.currentCharacter != '\n') {
+									int pos = this.currentPosition;
+									for (int end = Math.min(this.eofPosition, this.source.length); pos < end; pos++) {
+										char c = this.source[pos];
+										if (c == '\r' || c == '\n' || c == '\\')
+											break;
+									}
+									if (pos != this.currentPosition) {
+										this.lastCommentLinePosition = pos - 1;
+										this.currentCharacter = this.source[pos - 1];
+										this.currentPosition = pos;
+									}
+								}
 								boolean isUnicode = false;
 								while (this.currentCharacter != '\r' && this.currentCharacter != '\n') {
 									if (this.currentPosition >= this.eofPosition) {
@@ -2478,6 +2528,17 @@ public final void jumpOverBody() {
 										default:
 											star = false;
 									}
+									// fast path over the characters of the comment that need no processing
+									int pos = this.currentPosition;
+									for (int end = Math.min(this.eofPosition, this.source.length) - 1; pos < end; pos++) {
+										char c = this.source[pos];
+										if (c == '*' || c == '/' || c == '@' || c == '\r' || c == '\n' || c == '\\')
+											break;
+									}
+									if (pos != this.currentPosition) {
+										this.currentPosition = pos;
+										star = false;
+									}
 									//get next char
 									previous = this.currentPosition;
 									if (((this.currentCharacter = this.source[this.currentPosition++]) == '\\')
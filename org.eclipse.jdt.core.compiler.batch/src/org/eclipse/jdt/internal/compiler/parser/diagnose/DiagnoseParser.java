@@ -151,6 +151,15 @@ public class DiagnoseParser implements ParserBasicInformation, TerminalTokens, C
 	    }
 	}
 
+	static {
+		// the tables of the parser that only the diagnosis uses are loaded with the first syntax error
+		try {
+			Parser.initRecoveryTables();
+		} catch (java.io.IOException ex) {
+			throw new ExceptionInInitializerError(ex.getMessage());
+		}
+	}
+
 	public DiagnoseParser(Parser parser, int firstToken, int start, int end, CompilerOptions options) {
 		this(parser, firstToken, start, end, Util.EMPTY_INT_ARRAY, Util.EMPTY_INT_ARRAY, Util.EMPTY_INT_ARRAY, options);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.jdt.internal.compiler.problem;
 
 import org.eclipse.jdt.core.compiler.CategorizedProblem;
 import org.eclipse.jdt.core.compiler.IProblem;
+import org.eclipse.jdt.internal.compiler.util.HashtableOfInt;
 import org.eclipse.jdt.internal.compiler.util.Messages;
 import org.eclipse.jdt.internal.compiler.util.Util;
 
@@ -27,7 +28,11 @@ public class DefaultProblem extends CategorizedProblem {
 	public int column;
 	public int severity;
 	private final String[] arguments;
-	private final String message;
+	private String message;
+	// to format the message on demand, released once it is formatted, see getMessage()
+	private HashtableOfInt messageTemplates;
+	private int elaborationId;
+	private String[] messageArguments;
 
 	// cannot directly point to IJavaModelMarker constants from within batch compiler
 	private static final String MARKER_TYPE_PROBLEM = "org.eclipse.jdt.core.problem"; //$NON-NLS-1$
@@ -56,6 +61,29 @@ public DefaultProblem(
 	this.line = line;
 	this.column = column;
 }
+/**
+ * Creates a problem whose message is only formatted from the given templates when it is asked for,
+ * as most of the warnings reported on large code bases end up suppressed or past the maximum
+ * number of reported problems.
+ */
+DefaultProblem(
+	char[] originatingFileName,
+	HashtableOfInt messageTemplates,
+	int id,
+	String[] stringArguments,
+	int elaborationId,
+	String[] messageArguments,
+	int severity,
+	int startPosition,
+	int endPosition,
+	int line,
+	int column) {
+
+	this(originatingFileName, (String) null, id, stringArguments, severity, startPosition, endPosition, line, column);
+	this.messageTemplates = messageTemplates;
+	this.elaborationId = elaborationId;
+	this.messageArguments = messageArguments;
+}
 public void reportError() {
 	// Do nothing by default
 }
@@ -197,7 +225,18 @@ public String getMarkerType() {
 
 @Override
 public String getMessage() {
-	return this.message;
+	String result = this.message;
+	if (result == null) {
+		synchronized (this) {
+			result = this.message;
+			if (result == null && this.messageTemplates != null) {
+				this.message = result = DefaultProblemFactory.getLocalizedMessage(this.messageTemplates, this.id, this.elaborationId, this.messageArguments);
+				this.messageTemplates = null;
+				this.messageArguments = null;
+			}
+		}
+	}
+	return result;
 }
 
 @Override
@@ -273,8 +312,9 @@ public void setSourceStart(int sourceStart) {
 @Override
 public String toString() {
 	String s = "Pb(" + (this.id & IProblem.IgnoreCategoriesMask) + ") "; //$NON-NLS-1$ //$NON-NLS-2$
-	if (this.message != null) {
-		s += this.message;
+	String m = getMessage();
+	if (m != null) {
+		s += m;
 	} else {
 		if (this.arguments != null)
 			for (int i = 0; i < this.arguments.length; i++)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -79,9 +79,11 @@ public CategorizedProblem createProblem(
 
 	return new DefaultProblem(
 		originatingFileName,
-		this.getLocalizedMessage(problemId, messageArguments),
+		this.messageTemplates,
 		problemId,
 		problemArguments,
+		0,
+		messageArguments,
 		severity,
 		startPosition,
 		endPosition,
@@ -102,9 +104,11 @@ public CategorizedProblem createProblem(
 	int columnNumber) {
 	return new DefaultProblem(
 		originatingFileName,
-		this.getLocalizedMessage(problemId, elaborationId, messageArguments),
+		this.messageTemplates,
 		problemId,
 		problemArguments,
+		elaborationId,
+		messageArguments,
 		severity,
 		startPosition,
 		endPosition,
@@ -140,14 +144,21 @@ public final String getLocalizedMessage(int id, String[] problemArguments) {
 }
 @Override
 public final String getLocalizedMessage(int id, int elaborationId, String[] problemArguments) {
-	String rawMessage = (String) this.messageTemplates.get(keyFromID(id & IProblem.IgnoreCategoriesMask));
+	return getLocalizedMessage(this.messageTemplates, id, elaborationId, problemArguments);
+}
+/**
+ * Answer the message of the given problem formatted from the given templates, so that a problem
+ * can format its own message without holding onto the factory which created it.
+ */
+static String getLocalizedMessage(HashtableOfInt messageTemplates, int id, int elaborationId, String[] problemArguments) {
+	String rawMessage = (String) messageTemplates.get(keyFromID(id & IProblem.IgnoreCategoriesMask));
 	if (rawMessage == null) {
 		return "Unable to retrieve the error message for problem id: " //$NON-NLS-1$
 			+ (id & IProblem.IgnoreCategoriesMask) + ". Check compiler resources.";  //$NON-NLS-1$
 	}
 	char[] message = rawMessage.toCharArray();
 	if (elaborationId != 0) {
-		String elaboration = (String) this.messageTemplates.get(keyFromID(elaborationId));
+		String elaboration = (String) messageTemplates.get(keyFromID(elaborationId));
 		if (elaboration == null) {
 			return "Unable to retrieve the error message elaboration for elaboration id: " //$NON-NLS-1$
 				+ elaborationId + ". Check compiler resources.";  //$NON-NLS-1$
@@ -168,7 +179,7 @@ public final String getLocalizedMessage(int id, int elaborationId, String[] prob
 	StringBuilder output = null;
 	if ((id & IProblem.Javadoc) != 0) {
 		output = new StringBuilder(10+length+problemArguments.length*20);
-		output.append((String) this.messageTemplates.get(keyFromID(IProblem.JavadocMessagePrefix & IProblem.IgnoreCategoriesMask)));
+		output.append((String) messageTemplates.get(keyFromID(IProblem.JavadocMessagePrefix & IProblem.IgnoreCategoriesMask)));
 	}
 	while (true) {
 		if ((end = CharOperation.indexOf('{', message, start)) > -1) {
@@ -25,6 +25,7 @@ import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
 import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.impl.ReferenceContext;
+import org.eclipse.jdt.internal.compiler.impl.UnitStats;
 import org.eclipse.jdt.internal.compiler.util.Util;
 
 /*
@@ -123,6 +124,29 @@ public void handle(
 	ReferenceContext referenceContext,
 	CompilationResult unitResult) {
 
+	UnitStats unitStats = unitResult == null ? null : unitResult.stats;
+	if (unitStats == null) {
+		handle0(problemId, problemArguments, elaborationId, messageArguments, severity, problemStartPosition, problemEndPosition, referenceContext, unitResult);
+		return;
+	}
+	long start = System.nanoTime();
+	try {
+		handle0(problemId, problemArguments, elaborationId, messageArguments, severity, problemStartPosition, problemEndPosition, referenceContext, unitResult);
+	} finally {
+		unitStats.problemTime += System.nanoTime() - start;
+	}
+}
+private void handle0(
+	int problemId,
+	String[] problemArguments,
+	int elaborationId,
+	String[] messageArguments,
+	int severity,
+	int problemStartPosition,
+	int problemEndPosition,
+	ReferenceContext referenceContext,
+	CompilationResult unitResult) {
+
 	if (severity == ProblemSeverities.Ignore)
 		return;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,8 +36,14 @@ public class Archive implements Closeable {
 
 	public static final Archive UNKNOWN_ARCHIVE = new Archive();
 
+	// how long the file is assumed not to change after its modification time was checked
+	private static final long MODIFICATION_CHECK_INTERVAL = 1000;
+
 	ZipFile zipFile;
 	File file;
+	long lastModified;
+	long length;
+	long checkedAt;
 
 	protected Hashtable<String, ArrayList<String[]>> packagesCache;
 
@@ -47,6 +53,9 @@ public class Archive implements Closeable {
 
 	public Archive(File file) throws ZipException, IOException {
 		this.file = file;
+		this.lastModified = file.lastModified();
+		this.length = file.length();
+		this.checkedAt = System.currentTimeMillis();
 		this.zipFile = new ZipFile(file);
 		initialize();
 	}
@@ -87,6 +96,22 @@ public class Archive implements Closeable {
 		return new ArchiveFileObject(this.file, fileName, charset);
 	}
 
+	/**
+	 * Has the file been rewritten since this archive was opened? Its modification time is
+	 * checked at most once a second, since listing a location asks each of its archives.
+	 */
+	public boolean isModified() {
+		if (this.file == null) {
+			return false;
+		}
+		long now = System.currentTimeMillis();
+		if (now - this.checkedAt < MODIFICATION_CHECK_INTERVAL) {
+			return false;
+		}
+		this.checkedAt = now;
+		return this.file.lastModified() != this.lastModified || this.file.length() != this.length;
+	}
+
 	public boolean contains(String entryName) {
 		return this.zipFile.getEntry(entryName) != null;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2022 IBM Corporation and others.
+ * Copyright (c) 2006, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,6 +39,12 @@ import java.util.ResourceBundle;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.lang.model.SourceVersion;
 import javax.tools.FileObject;
@@ -79,8 +85,20 @@ public class EclipseFileManager implements StandardJavaFileManager {
 	static final int HAS_ENDORSED_DIRS = 4;
 	static final int HAS_PROCESSORPATH = 8;
 	static final int HAS_PROC_MODULEPATH = 16;
+	/*
+	 * Some file systems only record the modification time of a directory to the second (or two),
+	 * so a directory listed within that time of its last modification could change again without
+	 * its modification time changing.
+	 */
+	private static final long DIRECTORY_TIMESTAMP_RESOLUTION = 2000;
 
 	Map<File, Archive> archivesCache;
+	/*
+	 * The entries of the package directories listed so far, reused as long as the directory has
+	 * not been modified since: checking its modification time is a single call where listing it
+	 * again checks each of its entries.
+	 */
+	private final Map<File, DirectoryListing> directoriesCache = new HashMap<>();
 	Charset charset;
 	Locale locale;
 	protected ModuleLocationHandler locationHandler;
@@ -145,6 +163,7 @@ public class EclipseFileManager implements StandardJavaFileManager {
 			}
 		}
 		this.archivesCache.clear();
+		this.directoriesCache.clear();
 		for (URLClassLoader cl : this.classloaders.values()) {
 			cl.close();
 		}
@@ -201,30 +220,94 @@ public class EclipseFileManager implements StandardJavaFileManager {
 		} else {
 			// we must have a directory
 			File currentFile = new File(file, normalizedPackageName);
-			if (!currentFile.exists()) return;
-			String path;
-			try {
-				path = currentFile.getCanonicalPath();
-			} catch (IOException e) {
-				return;
+			DirectoryListing listing = getDirectoryListing(currentFile, normalizedPackageName);
+			if (listing == null) return;
+			File[] files = listing.files;
+			for (int i = 0; i < files.length; i++) {
+				File f = files[i];
+				if (listing.directories[i] && recurse) {
+					collectAllMatchingFiles(location, file, normalizedPackageName + '/' + f.getName(), kinds, recurse, collector);
+				} else {
+					final Kind kind = getKind(f);
+					if (kinds.contains(kind)) {
+						collector.add(new EclipseFileObject(normalizedPackageName + f.getName(), listing.getURI(i), kind, this.charset));
+					}
+				}
 			}
-			if (File.separatorChar == '/') {
-				if (!path.endsWith(normalizedPackageName)) return;
-			} else if (!path.endsWith(normalizedPackageName.replace('/', File.separatorChar))) return;
-			File[] files = currentFile.listFiles();
+		}
+	}
+
+	/*
+	 * Returns the entries of the given package directory, or null if it is not a directory
+	 * or its name does not match the package name exactly.
+	 */
+	private DirectoryListing getDirectoryListing(File directory, String normalizedPackageName) {
+		long lastModified = directory.lastModified();
+		DirectoryListing listing = this.directoriesCache.get(directory);
+		if (listing != null && listing.isUpToDate(lastModified)) {
+			return listing;
+		}
+		listing = null;
+		if (directory.exists() && matchesPackageName(directory, normalizedPackageName)) {
+			File[] files = directory.listFiles();
 			if (files != null) {
 				// this was a directory
-				for (File f : files) {
-					if (f.isDirectory() && recurse) {
-						collectAllMatchingFiles(location, file, normalizedPackageName + '/' + f.getName(), kinds, recurse, collector);
-					} else {
-						final Kind kind = getKind(f);
-						if (kinds.contains(kind)) {
-							collector.add(new EclipseFileObject(normalizedPackageName + f.getName(), f.toURI(), kind, this.charset));
-						}
-					}
-				}
+				listing = new DirectoryListing(files, lastModified);
+			}
+		}
+		if (listing != null) {
+			this.directoriesCache.put(directory, listing);
+		} else {
+			this.directoriesCache.remove(directory);
+		}
+		return listing;
+	}
+
+	private boolean matchesPackageName(File directory, String normalizedPackageName) {
+		String path;
+		try {
+			path = directory.getCanonicalPath();
+		} catch (IOException e) {
+			return false;
+		}
+		if (File.separatorChar == '/') {
+			return path.endsWith(normalizedPackageName);
+		}
+		return path.endsWith(normalizedPackageName.replace('/', File.separatorChar));
+	}
+
+	private static class DirectoryListing {
+		final File[] files;
+		final boolean[] directories;
+		final long lastModified;
+		final long listedAt;
+		private URI[] uris;
+
+		DirectoryListing(File[] files, long lastModified) {
+			this.files = files;
+			this.directories = new boolean[files.length];
+			for (int i = 0; i < files.length; i++) {
+				this.directories[i] = files[i].isDirectory();
+			}
+			this.lastModified = lastModified;
+			this.listedAt = System.currentTimeMillis();
+		}
+
+		URI getURI(int index) {
+			// File.toURI() checks the file system whether the file is a directory every time
+			if (this.uris == null) {
+				this.uris = new URI[this.files.length];
+			}
+			URI uri = this.uris[index];
+			if (uri == null) {
+				this.uris[index] = uri = this.files[index].toURI();
 			}
+			return uri;
+		}
+
+		boolean isUpToDate(long currentLastModified) {
+			return currentLastModified == this.lastModified
+					&& this.listedAt - this.lastModified > DIRECTORY_TIMESTAMP_RESOLUTION;
 		}
 	}
 
@@ -250,6 +333,7 @@ public class EclipseFileManager implements StandardJavaFileManager {
 				archive.flush();
 			}
 		}
+		this.directoriesCache.clear();
 	}
 
 	JrtFileSystem getJrtFileSystem(File f){
@@ -259,9 +343,17 @@ public class EclipseFileManager implements StandardJavaFileManager {
 	private Archive getArchive(File f) {
 		// check the archive (jar/zip) cache
 		Archive existing = this.archivesCache.get(f);
-		if (existing != null) {
+		if (existing != null && !existing.isModified()) {
 			return existing;
 		}
+		Archive archive = newArchive(f);
+		try (Archive previous = this.archivesCache.put(f, archive)) {
+			// Nothing but closing the previous instance, if the file was rewritten since it was opened
+		}
+		return archive;
+	}
+
+	private Archive newArchive(File f) {
 		Archive archive = Archive.UNKNOWN_ARCHIVE;
 		// create a new archive
 		if (f.exists()) {
@@ -281,12 +373,82 @@ public class EclipseFileManager implements StandardJavaFileManager {
 				}
 			}
 		}
-		try (Archive previous = this.archivesCache.put(f, archive)) {
-			// Nothing but closing previous instance - which should not exist at this time
-		}
 		return archive;
 	}
 
+	/*
+	 * Open the archives among the given files that are not opened yet, with a thread per archive
+	 * up to the number of processors, since each has to read its whole central directory.
+	 */
+	private void openArchives(Iterable<? extends Path> paths) {
+		List<File> files = new ArrayList<>();
+		for (Path path : paths) {
+			File file = path.toFile();
+			if (isArchive(file) && !this.archivesCache.containsKey(file)) {
+				files.add(file);
+			}
+		}
+		int count = files.size();
+		int threads = Math.min(Runtime.getRuntime().availableProcessors(), count);
+		if (threads < 2)
+			return; // getArchive() opens them one after the other
+		ExecutorService openers = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread worker = new Thread(runnable, "Archive Opening Worker"); //$NON-NLS-1$
+			worker.setDaemon(true);
+			return worker;
+		});
+		List<Future<Archive>> archives = new ArrayList<>(count);
+		int cached = 0;
+		try {
+			for (File file : files) {
+				@SuppressWarnings("resource") // the archive is handed over to the cache below, or closed if another one fails
+				Callable<Archive> opener = () -> newArchive(file);
+				archives.add(openers.submit(opener));
+			}
+			for (int i = 0; i < count; i++) {
+				Archive archive;
+				while (true) {
+					try {
+						archive = archives.get(i).get();
+						break;
+					} catch (InterruptedException ignore) {
+						// ignore
+					} catch (ExecutionException e) {
+						Throwable cause = e.getCause();
+						if (cause instanceof Error)
+							throw (Error) cause;
+						throw (RuntimeException) cause;
+					}
+				}
+				try (Archive previous = this.archivesCache.put(files.get(i), archive)) {
+					// Nothing but closing previous instance - which should not exist at this time
+				}
+				cached++;
+			}
+		} finally {
+			openers.shutdownNow();
+			try {
+				openers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException ignored) {
+				// ignore
+			}
+			// after a failure, close the archives opened by the others, which did not make it to the cache
+			for (int i = cached; i < archives.size(); i++) {
+				closeOpened(archives.get(i));
+			}
+		}
+	}
+
+	private static void closeOpened(Future<Archive> openedArchive) {
+		if (!openedArchive.isDone() || openedArchive.isCancelled())
+			return;
+		try {
+			openedArchive.get().close();
+		} catch (InterruptedException | ExecutionException e) {
+			// not opened
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see javax.tools.JavaFileManager#getClassLoader(javax.tools.JavaFileManager.Location)
 	 */
@@ -993,6 +1155,7 @@ public class EclipseFileManager implements StandardJavaFileManager {
 
 		ArrayList<JavaFileObject> collector = new ArrayList<>();
 		String normalizedPackageName = normalized(packageName);
+		openArchives(allPaths);
 		for (Path file : allPaths) {
 			collectAllMatchingFiles(location, file.toFile(), normalizedPackageName, kinds, recurse, collector);
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2017 IBM Corporation.
+ * Copyright (c) 2015, 2024 IBM Corporation.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -118,6 +118,12 @@ public class JrtFileSystem extends Archive {
 		return new JrtFileObject(this.file, this.modules.resolve(module).resolve(fileName), module, charset);
 	}
 
+	@Override
+	public boolean isModified() {
+		// a JDK image does not change
+		return false;
+	}
+
 	@Override
 	public boolean contains(String entryName) {
 		// FIXME
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 Andrey Loskutov and others.
+ * Copyright (c) 2020, 2024 Andrey Loskutov and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,11 +26,14 @@ import java.nio.file.Path;
 import java.nio.file.ProviderNotFoundException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 /**
  * Abstraction to the ct.sym file access (see https://openjdk.java.net/jeps/247). The ct.sym file is required to
@@ -328,35 +331,61 @@ public class CtSym {
 	 * javax/net/ssl/SSLSocketFactory.sig -> /89ABC/java.base/javax/net/ssl/SSLSocketFactory.sig
 	 * <p>
 	 * before 12: javax/net/ssl/SSLSocketFactory.sig -> /89ABC/java.base/javax/net/ssl/SSLSocketFactory.sig
+	 * <p>
+	 * The names are read from the central directory of the ct.sym file in one pass, walking the directories of the
+	 * zip filesystem takes several times longer.
 	 */
 	private Map<String, Path> getCachedReleasePaths(String releaseCode) {
 		Map<String, Path> result = this.allReleasesPaths.computeIfAbsent(releaseCode, x -> {
 			List<Path> roots = releaseRoots(releaseCode);
+			Map<String, List<String>> entriesByRoot = new HashMap<>();
+			for (Path start : roots) {
+				entriesByRoot.put(JRTUtil.sanitizedFileName(start), new ArrayList<>());
+			}
+			try (ZipFile zip = new ZipFile(this.ctSymFile.toFile())) {
+				Enumeration<? extends ZipEntry> entries = zip.entries();
+				while (entries.hasMoreElements()) {
+					ZipEntry entry = entries.nextElement();
+					if (entry.isDirectory()) {
+						continue;
+					}
+					String name = entry.getName();
+					int slash = name.indexOf('/');
+					if (slash == -1) {
+						continue;
+					}
+					List<String> rootEntries = entriesByRoot.get(name.substring(0, slash));
+					if (rootEntries != null) {
+						rootEntries.add(name);
+					}
+				}
+			} catch (IOException e) {
+				String error = "Failed to read entries of " + this.ctSymFile; //$NON-NLS-1$
+				if (JRTUtil.PROPAGATE_IO_ERRORS) {
+					throw new IllegalStateException(error, e);
+				} else {
+					// Not much do to if we can't list the entries; anything in there will be treated
+					// as if it were missing.
+					System.err.println(error);
+					e.printStackTrace();
+				}
+			}
 			Map<String, Path> allReleaseFiles = new HashMap<>(4999);
 			for (Path start : roots) {
-				try {
-					Files.walk(start).filter(Files::isRegularFile).forEach(p -> {
-						if (isJRE12Plus()) {
-							// Don't use module name as part of the key
-							String binaryNameWithoutModule = p.subpath(2, p.getNameCount()).toString();
-							allReleaseFiles.put(binaryNameWithoutModule, p);
-							// Cache extra key with module added, see getFullPath().
-							String binaryNameWithModule = p.subpath(1, p.getNameCount()).toString();
-							allReleaseFiles.put(binaryNameWithModule, p);
-						} else {
-							String binaryNameWithoutModule = p.subpath(1, p.getNameCount()).toString();
-							allReleaseFiles.put(binaryNameWithoutModule, p);
+				for (String name : entriesByRoot.get(JRTUtil.sanitizedFileName(start))) {
+					int slash = name.indexOf('/');
+					if (isJRE12Plus()) {
+						int moduleSlash = name.indexOf('/', slash + 1);
+						if (moduleSlash == -1) {
+							continue;
 						}
-					});
-				} catch (IOException e) {
-					String error = "Failed to read directory " + start + " contents in " + this.root; //$NON-NLS-1$ //$NON-NLS-2$
-					if (JRTUtil.PROPAGATE_IO_ERRORS) {
-						throw new IllegalStateException(error, e);
+						Path p = this.root.resolve(name);
+						// Don't use module name as part of the key
+						allReleaseFiles.put(name.substring(moduleSlash + 1), p);
+						// Cache extra key with module added, see getFullPath().
+						allReleaseFiles.put(name.substring(slash + 1), p);
 					} else {
-						// Not much do to if we can't list the dir; anything in there will be treated
-						// as if it were missing.
-						System.err.println(error);
-						e.printStackTrace();
+						allReleaseFiles.put(name.substring(slash + 1), this.root.resolve(name));
 					}
 				}
 			}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,10 @@ import org.eclipse.jdt.core.compiler.CharOperation;
 
 /**
  * Hashtable of {char[] --> Object }
+ * <p>
+ * The hash code of every key is kept along with it, so that a lookup only compares the keys whose
+ * hash code is the one looked for, and so that growing the table doesn't hash all the keys again.
+ * </p>
  */
 public final class HashtableOfObject {
 
@@ -28,6 +32,7 @@ public final class HashtableOfObject {
 	// to avoid using Enumerations, walk the individual tables skipping nulls
 	public char[] keyTable[];
 	public Object valueTable[];
+	private int hashTable[];
 
 	public int elementSize; // number of elements in the table
 	private int threshold;
@@ -56,6 +61,7 @@ public final class HashtableOfObject {
 		}
 		this.keyTable = new char[extraRoom][];
 		this.valueTable = new Object[extraRoom];
+		this.hashTable = new int[extraRoom];
 	}
 
 	public void clear() {
@@ -66,11 +72,11 @@ public final class HashtableOfObject {
 
 	public boolean containsKey(char[] key) {
 		int length = this.keyTable.length;
-		int index = CharOperation.hashCode(key) % length;
-
+		int hash = CharOperation.hashCode(key);
+		int index = hash % length;
 		char[] currentKey;
 		while ((currentKey = this.keyTable[index]) != null) {
-			if (CharOperation.equals(currentKey, key)) {
+			if (this.hashTable[index] == hash && CharOperation.equals(currentKey, key)) {
 				return true;
 			}
 			if (++index == length) {
@@ -82,10 +88,11 @@ public final class HashtableOfObject {
 
 	public Object get(char[] key) {
 		int length = this.keyTable.length;
-		int index = CharOperation.hashCode(key) % length;
+		int hash = CharOperation.hashCode(key);
+		int index = hash % length;
 		char[] currentKey;
 		while ((currentKey = this.keyTable[index]) != null) {
-			if (CharOperation.equals(currentKey, key)) {
+			if (this.hashTable[index] == hash && CharOperation.equals(currentKey, key)) {
 				return this.valueTable[index];
 			}
 			if (++index == length) {
@@ -97,10 +104,11 @@ public final class HashtableOfObject {
 
 	public Object put(char[] key, Object value) {
 		int length = this.keyTable.length;
-		int index = CharOperation.hashCode(key) % length;
+		int hash = CharOperation.hashCode(key);
+		int index = hash % length;
 		char[] currentKey;
 		while ((currentKey = this.keyTable[index]) != null) {
-			if (CharOperation.equals(currentKey, key)) {
+			if (this.hashTable[index] == hash && CharOperation.equals(currentKey, key)) {
 				return this.valueTable[index] = value;
 			}
 			if (++index == length) {
@@ -109,6 +117,7 @@ public final class HashtableOfObject {
 		}
 		this.keyTable[index] = key;
 		this.valueTable[index] = value;
+		this.hashTable[index] = hash;
 
 		// assumes the threshold is never equal to the size of the table
 		if (++this.elementSize > this.threshold) {
@@ -127,8 +136,12 @@ public final class HashtableOfObject {
 	 * @param value The value of the table entry
 	 */
 	public void putUnsafely(char[] key, Object value) {
+		putUnsafely(key, CharOperation.hashCode(key), value);
+	}
+
+	private void putUnsafely(char[] key, int hash, Object value) {
 		int length = this.keyTable.length;
-		int index = CharOperation.hashCode(key) % length;
+		int index = hash % length;
 		while (this.keyTable[index] != null) {
 			if (++index == length) {
 				index = 0;
@@ -136,6 +149,7 @@ public final class HashtableOfObject {
 		}
 		this.keyTable[index] = key;
 		this.valueTable[index] = value;
+		this.hashTable[index] = hash;
 
 		// assumes the threshold is never equal to the size of the table
 		if (++this.elementSize > this.threshold) {
@@ -149,12 +163,13 @@ public final class HashtableOfObject {
 		char[] currentKey;
 		for (int i = this.keyTable.length; --i >= 0;) {
 			if ((currentKey = this.keyTable[i]) != null) {
-				newHashtable.putUnsafely(currentKey, this.valueTable[i]);
+				newHashtable.putUnsafely(currentKey, this.hashTable[i], this.valueTable[i]);
 			}
 		}
 
 		this.keyTable = newHashtable.keyTable;
 		this.valueTable = newHashtable.valueTable;
+		this.hashTable = newHashtable.hashTable;
 		this.threshold = newHashtable.threshold;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,10 +16,14 @@ package org.eclipse.jdt.internal.compiler.util;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.internal.compiler.lookup.ReferenceBinding;
 
+/**
+ * Hashtable of {char[] --> ReferenceBinding }, keeping the hash code of every key along with it.
+ */
 public final class HashtableOfType {
 	// to avoid using Enumerations, walk the individual tables skipping nulls
 	public char[] keyTable[];
 	public ReferenceBinding valueTable[];
+	private int hashTable[];
 
 	public int elementSize; // number of elements in the table
 	int threshold;
@@ -34,14 +38,15 @@ public HashtableOfType(int size) {
 		extraRoom++;
 	this.keyTable = new char[extraRoom][];
 	this.valueTable = new ReferenceBinding[extraRoom];
+	this.hashTable = new int[extraRoom];
 }
 public boolean containsKey(char[] key) {
 	int length = this.keyTable.length,
-		index = CharOperation.hashCode(key) % length;
-	int keyLength = key.length;
+		hash = CharOperation.hashCode(key),
+		index = hash % length;
 	char[] currentKey;
 	while ((currentKey = this.keyTable[index]) != null) {
-		if (currentKey.length == keyLength && CharOperation.equals(currentKey, key))
+		if (this.hashTable[index] == hash && CharOperation.equals(currentKey, key))
 			return true;
 		if (++index == length) {
 			index = 0;
@@ -51,11 +56,11 @@ public boolean containsKey(char[] key) {
 }
 public ReferenceBinding get(char[] key) {
 	int length = this.keyTable.length,
-		index = CharOperation.hashCode(key) % length;
-	int keyLength = key.length;
+		hash = CharOperation.hashCode(key),
+		index = hash % length;
 	char[] currentKey;
 	while ((currentKey = this.keyTable[index]) != null) {
-		if (currentKey.length == keyLength && CharOperation.equals(currentKey, key))
+		if (this.hashTable[index] == hash && CharOperation.equals(currentKey, key))
 			return this.valueTable[index];
 		if (++index == length) {
 			index = 0;
@@ -67,11 +72,11 @@ public ReferenceBinding get(char[] key) {
 public ReferenceBinding getput(char[] key, ReferenceBinding value) {
 	ReferenceBinding retVal = null;
 	int length = this.keyTable.length,
-		index = CharOperation.hashCode(key) % length;
-	int keyLength = key.length;
+		hash = CharOperation.hashCode(key),
+		index = hash % length;
 	char[] currentKey;
 	while ((currentKey = this.keyTable[index]) != null) {
-		if (currentKey.length == keyLength && CharOperation.equals(currentKey, key)) {
+		if (this.hashTable[index] == hash && CharOperation.equals(currentKey, key)) {
 			retVal = this.valueTable[index];
 			this.valueTable[index] = value;
 			return retVal;
@@ -82,6 +87,7 @@ public ReferenceBinding getput(char[] key, ReferenceBinding value) {
 	}
 	this.keyTable[index] = key;
 	this.valueTable[index] = value;
+	this.hashTable[index] = hash;
 
 	// assumes the threshold is never equal to the size of the table
 	if (++this.elementSize > this.threshold)
@@ -90,11 +96,11 @@ public ReferenceBinding getput(char[] key, ReferenceBinding value) {
 }
 public ReferenceBinding put(char[] key, ReferenceBinding value) {
 	int length = this.keyTable.length,
-		index = CharOperation.hashCode(key) % length;
-	int keyLength = key.length;
+		hash = CharOperation.hashCode(key),
+		index = hash % length;
 	char[] currentKey;
 	while ((currentKey = this.keyTable[index]) != null) {
-		if (currentKey.length == keyLength && CharOperation.equals(currentKey, key))
+		if (this.hashTable[index] == hash && CharOperation.equals(currentKey, key))
 			return this.valueTable[index] = value;
 		if (++index == length) {
 			index = 0;
@@ -102,6 +108,7 @@ public ReferenceBinding put(char[] key, ReferenceBinding value) {
 	}
 	this.keyTable[index] = key;
 	this.valueTable[index] = value;
+	this.hashTable[index] = hash;
 
 	// assumes the threshold is never equal to the size of the table
 	if (++this.elementSize > this.threshold)
@@ -113,12 +120,24 @@ private void rehash() {
 	char[] currentKey;
 	for (int i = this.keyTable.length; --i >= 0;)
 		if ((currentKey = this.keyTable[i]) != null)
-			newHashtable.put(currentKey, this.valueTable[i]);
+			newHashtable.putUnsafely(currentKey, this.hashTable[i], this.valueTable[i]);
 
 	this.keyTable = newHashtable.keyTable;
 	this.valueTable = newHashtable.valueTable;
+	this.hashTable = newHashtable.hashTable;
 	this.threshold = newHashtable.threshold;
 }
+private void putUnsafely(char[] key, int hash, ReferenceBinding value) {
+	int length = this.keyTable.length,
+		index = hash % length;
+	while (this.keyTable[index] != null)
+		if (++index == length)
+			index = 0;
+	this.keyTable[index] = key;
+	this.valueTable[index] = value;
+	this.hashTable[index] = hash;
+	this.elementSize++;
+}
 public int size() {
 	return this.elementSize;
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2022 IBM Corporation.
+ * Copyright (c) 2015, 2024 IBM Corporation.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -661,12 +661,10 @@ class JrtFileSystem {
 
 	ClassFileReader getClassfileFromModule(String fileName, String module) throws IOException, ClassFormatException {
 		Path path = this.fs.getPath(JRTUtil.MODULES_SUBDIR, module, fileName);
-		byte[] content = null;
-		if(JRTUtil.DISABLE_CACHE) {
-			content = JRTUtil.safeReadBytes(path);
-		} else {
-			content = JRTUtil.classCache.getClassBytes(this.jdk, path);
+		if (!JRTUtil.DISABLE_CACHE) {
+			return JRTUtil.classCache.getClassFileReader(this.jdk, path, fileName, module);
 		}
+		byte[] content = JRTUtil.safeReadBytes(path);
 		if (content != null) {
 			ClassFileReader reader = new ClassFileReader(path.toUri(), content, fileName.toCharArray());
 			reader.moduleName = module.toCharArray();
@@ -699,15 +697,18 @@ class JrtFileSystem {
 			try (DirectoryStream<java.nio.file.Path> stream = Files.newDirectoryStream(path)) {
 				for (final java.nio.file.Path subdir: stream) {
 					if (!subdir.toString().equals(JRTUtil.MODULES_SUBDIR)) {
-						Files.walkFileTree(subdir, new JRTUtil.AbstractFileVisitor<java.nio.file.Path>() {
-							@Override
-							public FileVisitResult visitFile(java.nio.file.Path file, BasicFileAttributes attrs) throws IOException {
-								// e.g. /modules/java.base
-								java.nio.file.Path relative = subdir.relativize(file);
-								cachePackage(relative.getParent().toString(), relative.getFileName().toString());
-								return FileVisitResult.CONTINUE;
+						// e.g. /packages/java.lang/java.base: the entries are only listed, reading their
+						// attributes (as walking the tree does) costs more than the listing itself
+						try (DirectoryStream<java.nio.file.Path> packages = Files.newDirectoryStream(subdir)) {
+							for (java.nio.file.Path packageDir : packages) {
+								String packageName = JRTUtil.sanitizedFileName(packageDir);
+								try (DirectoryStream<java.nio.file.Path> modules = Files.newDirectoryStream(packageDir)) {
+									for (java.nio.file.Path module : modules) {
+										cachePackage(packageName, JRTUtil.sanitizedFileName(module));
+									}
+								}
 							}
-						});
+						}
 					}
 			    }
 			} catch (Exception e) {
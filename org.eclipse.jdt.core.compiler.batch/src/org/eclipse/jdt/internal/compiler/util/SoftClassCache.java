@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Christoph Läubrich.
+ * Copyright (c) 2023, 2024 Christoph Läubrich.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,9 +19,18 @@ import java.nio.file.Path;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+
 /**
  * Implements a soft cache for reading class files from disk, as these caches can grow quite large but data can be
  * recovered afterwards we only hold a soft reference to the bytes itself.
+ * <p>
+ * The class files read more than once, typically by successive compilations against the same image, are cached
+ * decoded the same way, so that these compilations do not decode them again. A cached reader is fully initialized:
+ * it does not hold onto the bytes and is never modified afterwards, so it can be shared by concurrent compilations.
+ * The bytes of such a class file are not kept next to its reader.
+ * </p>
  */
 class SoftClassCache {
 
@@ -35,6 +44,10 @@ class SoftClassCache {
 		return this.jdks.computeIfAbsent(jdk.path, JdkClasses::new).get(path);
 	}
 
+	public ClassFileReader getClassFileReader(Jdk jdk, Path path, String fileName, String module) throws IOException, ClassFormatException {
+		return this.jdks.computeIfAbsent(jdk.path, JdkClasses::new).getReader(path, fileName, module);
+	}
+
 	private static final class JdkClasses {
 		private final ConcurrentMap<Path, ClassBytes> classes = new ConcurrentHashMap<>(10007);
 		private final String jdkPath;
@@ -47,6 +60,10 @@ class SoftClassCache {
 			return this.classes.computeIfAbsent(path, ClassBytes::new).getBytes();
 		}
 
+		public ClassFileReader getReader(Path path, String fileName, String module) throws IOException, ClassFormatException {
+			return this.classes.computeIfAbsent(path, ClassBytes::new).getReader(fileName, module);
+		}
+
 		@Override
 		public String toString() {
 			return "Class Cache for " + this.jdkPath; //$NON-NLS-1$
@@ -57,6 +74,8 @@ class SoftClassCache {
 		private final Path path;
 		private volatile boolean empty;
 		private volatile SoftReference<byte[]> bytes;
+		private volatile SoftReference<ClassFileReader> reader;
+		private volatile boolean readBefore;
 
 		public ClassBytes(Path path) {
 			this.path = path;
@@ -81,6 +100,32 @@ class SoftClassCache {
 			this.bytes = new SoftReference<>(readBytes);
 			return readBytes;
 		}
+
+		public ClassFileReader getReader(String fileName, String module) throws IOException, ClassFormatException {
+			SoftReference<ClassFileReader> reference = this.reader;
+			if (reference != null) {
+				ClassFileReader classFileReader = reference.get();
+				if (classFileReader != null) {
+					return classFileReader;
+				}
+			}
+			byte[] content = getBytes();
+			if (content == null) {
+				return null;
+			}
+			// decoding a class file fully costs more than decoding it lazily: only pay for it when it is read again
+			boolean share = this.readBefore;
+			this.readBefore = true;
+			ClassFileReader classFileReader = new ClassFileReader(this.path.toUri(), content, fileName.toCharArray(), share);
+			classFileReader.moduleName = module.toCharArray();
+			if (share) {
+				// concurrent readers may decode the same class file twice, either result can be kept
+				this.reader = new SoftReference<>(classFileReader);
+				// the shared reader does not need the bytes, they are read again if asked for
+				this.bytes = null;
+			}
+			return classFileReader;
+		}
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Sebastian Zarnekow and others.
+ * Copyright (c) 2019, 2024 Sebastian Zarnekow and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.util;
 
+import java.util.Arrays;
 import java.util.Comparator;
 
 /**
@@ -85,4 +86,53 @@ public class SortedCharArrays {
 		return diff;
 	}
 	public static final Comparator<char[][]> CHAR_CHAR_ARR_COMPARATOR = SortedCharArrays::compareCharCharArray;
+
+	/**
+	 * Answers whether the two arrays, both sorted according to the given comparator, have an element in common.
+	 */
+	public static <T> boolean intersects(T[] firstSortedArr, T[] secondSortedArr, Comparator<? super T> comparator) {
+		/*
+		 * Both arrays are sorted, so we can walk them in pairs.
+		 * Using binary search for the remaining array elements to figure the next
+		 * interesting index can greatly reduce the runtime cost for arrays that do
+		 * have more than a few elements.
+		 */
+		for(int i = 0, l = firstSortedArr.length, j = 0, k = secondSortedArr.length; i < l && j < k;) {
+			T firstElement = firstSortedArr[i];
+			T secondElement = secondSortedArr[j];
+			int compare = comparator.compare(firstElement, secondElement);
+			if (compare == 0) {
+				return true;
+			} else if (compare < 0) {
+				/*
+				 * left side is smaller than the right side, but not exactly the right side.
+				 * Take the next element from the left and proceed.
+				 *
+				 * If the number of remaining elements in the first array is sufficiently big,
+				 * attempt a binary search for the second element to possibly skip a few elements.
+				 */
+				i++;
+				if (l - i > BINARY_SEARCH_THRESHOLD) {
+					i = Arrays.binarySearch(firstSortedArr, i, l, secondElement, comparator);
+					if (i >= 0) {
+						return true;
+					}
+					i = -(i + 1);
+				}
+			} else {
+				/*
+				 * the inverse logic is applied here
+				 */
+				j++;
+				if (k - j > BINARY_SEARCH_THRESHOLD) {
+					j = Arrays.binarySearch(secondSortedArr, j, k, firstElement, comparator);
+					if (j >= 0) {
+						return true;
+					}
+					j = -(j + 1);
+				}
+			}
+		}
+		return false;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,7 +17,6 @@ package org.eclipse.jdt.internal.compiler.util;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -25,8 +24,12 @@ import java.io.PrintWriter;
 import java.io.Writer;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -407,8 +410,23 @@ public class Util implements SuffixConstants {
 	 * @throws IOException if a problem occured reading the file.
 	 */
 	public static char[] getFileCharContent(File file, String encoding) throws IOException {
-		try (InputStream stream = new FileInputStream(file)) {
-			return getInputStreamAsCharArray(stream, encoding);
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size == 0) {
+				// empty file, or one which does not know its size (e.g. a pipe)
+				return getInputStreamAsCharArray(Channels.newInputStream(channel), encoding);
+			}
+			if (size > Integer.MAX_VALUE - 8) {
+				throw new OutOfMemoryError("Required array size too large"); //$NON-NLS-1$
+			}
+			// read the whole file at once, usually with a single system call. The file is not memory mapped,
+			// since the mapping (and on Windows, the lock on the file) would last until the buffer is collected
+			ByteBuffer byteContents = ByteBuffer.allocate((int) size);
+			while (byteContents.hasRemaining() && channel.read(byteContents) >= 0) {
+				// keep reading
+			}
+			byteContents.flip();
+			return decode(byteContents, getCharset(encoding));
 		}
 	}
 	private static FileOutputStream getFileOutputStream(boolean generatePackagesStructure, String outputPath, String relativeFileName) throws IOException {
@@ -476,35 +494,66 @@ public class Util implements SuffixConstants {
 	public static char[] getInputStreamAsCharArray(InputStream stream,  String encoding)
 			throws IOException {
 		byte[] byteContents =  getInputStreamAsByteArray(stream);
+		return decode(ByteBuffer.wrap(byteContents), getCharset(encoding));
+	}
 
-		Charset charset;
+	private static Charset getCharset(String encoding) {
 		try {
-			charset = Charset.forName(encoding);
+			return Charset.forName(encoding);
 		} catch (IllegalArgumentException e) {
 			// encoding is not supported
-			charset = Charset.defaultCharset();
+			return Charset.defaultCharset();
 		}
-
-		// check for BOM in encoded byte content
-		// (instead of after decoding to avoid array copy after decoding):
-		byte[] bom = bomByEncoding.get(charset.name());
-		int start;
-		if (bom != null && startsWith(byteContents, bom)) {
-			start = bom.length; // skip BOM
-		} else {
-			start = 0;
-		}
-
-		return decode(byteContents, start, byteContents.length - start, charset);
 	}
 
 	/**
 	 * conversionless inmplementation of
 	 *
 	 * @return new String(srcBytes, start, length, charset).toCharArray();
+	 *
+	 * for the remaining bytes of the given buffer, without their BOM. UTF-8 and ISO-8859-1 contents
+	 * are decoded straight into the resulting array.
 	 **/
-	private static char[] decode(byte[] srcBytes, int start, int length, Charset charset) {
-		ByteBuffer srcBuffer = ByteBuffer.wrap(srcBytes, start, length);
+	private static char[] decode(ByteBuffer srcBuffer, Charset charset) {
+		// check for BOM in encoded byte content
+		// (instead of after decoding to avoid array copy after decoding):
+		byte[] bom = bomByEncoding.get(charset.name());
+		if (bom != null && startsWith(srcBuffer, bom)) {
+			srcBuffer.position(srcBuffer.position() + bom.length); // skip BOM
+		}
+		int start = srcBuffer.position();
+		int length = srcBuffer.remaining();
+		if (StandardCharsets.ISO_8859_1.equals(charset)) {
+			char[] dst = new char[length];
+			for (int i = 0; i < length; i++) {
+				dst[i] = (char) (srcBuffer.get(start + i) & 0xFF);
+			}
+			return dst;
+		}
+		if (StandardCharsets.UTF_8.equals(charset)) {
+			char[] dst = new char[length];
+			int ascii = 0;
+			if (srcBuffer.hasArray()) {
+				byte[] src = srcBuffer.array();
+				int offset = srcBuffer.arrayOffset() + start;
+				for (byte b; ascii < length && (b = src[offset + ascii]) >= 0; ascii++) {
+					dst[ascii] = (char) b;
+				}
+			} else {
+				for (byte b; ascii < length && (b = srcBuffer.get(start + ascii)) >= 0; ascii++) {
+					dst[ascii] = (char) b;
+				}
+			}
+			if (ascii == length) {
+				return dst;
+			}
+			// decode the remaining bytes from the first non ASCII one - UTF-8 never produces more chars than bytes
+			srcBuffer.position(start + ascii);
+			CharBuffer rest = charset.decode(srcBuffer);
+			int chars = ascii + rest.remaining();
+			rest.get(dst, ascii, rest.remaining());
+			return chars == length ? dst : Arrays.copyOf(dst, chars);
+		}
 		CharBuffer destBuffer = charset.decode(srcBuffer);
 		char[] dst = destBuffer.array();
 		int chars = destBuffer.remaining();
@@ -514,12 +563,13 @@ public class Util implements SuffixConstants {
 		return dst;
 	}
 
-	private static boolean startsWith(byte[] a, byte[] start) {
-		if (a.length < start.length) {
+	private static boolean startsWith(ByteBuffer a, byte[] start) {
+		if (a.remaining() < start.length) {
 			return false;
 		}
+		int position = a.position();
 		for (int i = 0; i < start.length; i++) {
-			if (a[i] != start[i])
+			if (a.get(position + i) != start[i])
 				return false;
 		}
 		return true;
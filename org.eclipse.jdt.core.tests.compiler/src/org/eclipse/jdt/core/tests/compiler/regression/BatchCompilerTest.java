@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,13 +37,25 @@
  *******************************************************************************/
 package org.eclipse.jdt.core.tests.compiler.regression;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.text.MessageFormat;
 import java.util.Iterator;
 import java.util.List;
@@ -58,6 +70,7 @@ import org.eclipse.jdt.core.tests.util.AbstractCompilerTest;
 import org.eclipse.jdt.core.tests.util.Util;
 import org.eclipse.jdt.internal.compiler.batch.ClasspathDirectory;
 import org.eclipse.jdt.internal.compiler.batch.ClasspathJar;
+import org.eclipse.jdt.internal.compiler.batch.CompilerDaemon;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem;
 import org.eclipse.jdt.internal.compiler.batch.Main;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
@@ -750,6 +763,7 @@ public void test012(){
         "    -XprintProcessorInfo print information about which annotations and elements\n" +
         "                         a processor is asked to process\n" +
         "    -XprintRounds        print information about annotation processing rounds\n" +
+        "    -XprintProcessorTime print the time spent in each call of a processor\n" +
         "    -classNames <className1[,className2,...]>\n" +
         "                         qualified names of binary classes to process\n" +
         " \n" +
@@ -766,8 +780,16 @@ public void test012(){
         "    -failOnWarning     fail compilation if there are warnings\n" +
         "    -verbose           enable verbose output\n" +
         "    -referenceInfo     compute reference info\n" +
+        "    -incremental <file>\n" +
+        "                       only compile the source files affected by the changes\n" +
+        "                       made since the previous compilation, as recorded in the\n" +
+        "                       given state file (requires -d <dir>, and -proc:none\n" +
+        "                       from 1.6 on)\n" +
         "    -progress          show progress (only in -log mode)\n" +
         "    -time              display speed information \n" +
+        "    -metrics <file>    write the timings, allocations, binary types loaded, type\n" +
+        "                       inferences and problems of each compiled unit to the\n" +
+        "                       given file, one JSON object per line\n" +
         "    -noExit            do not call System.exit(n) at end of compilation (n==0\n" +
         "                       if no error)\n" +
         "    -repeat <n>        repeat compilation process <n> times for perf analysis\n" +
@@ -13522,4 +13544,222 @@ public void testGitHub1122(){
 		+ "",
 		true);
 }
+// parsing the method bodies of all units on several threads must report problems in the same order as serial parsing
+public void testParallelParsing() {
+	String setting = System.getProperty("jdt.compiler.parseParallelism");
+	try {
+		System.setProperty("jdt.compiler.parseParallelism", "2");
+		this.runNegativeTest(
+			new String[] {
+				"X.java",
+				"public class X {\n" +
+				"	void m() { int i = 1 }\n" +
+				"}",
+				"Y.java",
+				"public class Y {\n" +
+				"	void foo() { int i = ; }\n" +
+				"}",
+				"Z.java",
+				"public class Z {\n" +
+				"	void bar() { String s = 1; }\n" +
+				"}"
+			},
+			"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "Y.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "Z.java\""
+			+ " -1.5 -proceedOnError -d none",
+			"",
+			"----------\n" +
+			"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/X.java (at line 2)\n" +
+			"	void m() { int i = 1 }\n" +
+			"	                   ^\n" +
+			"Syntax error, insert \";\" to complete BlockStatements\n" +
+			"----------\n" +
+			"----------\n" +
+			"2. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/Y.java (at line 2)\n" +
+			"	void foo() { int i = ; }\n" +
+			"	                   ^\n" +
+			"Syntax error on token \"=\", Expression expected after this token\n" +
+			"----------\n" +
+			"----------\n" +
+			"3. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/Z.java (at line 2)\n" +
+			"	void bar() { String s = 1; }\n" +
+			"	                        ^\n" +
+			"Type mismatch: cannot convert from int to String\n" +
+			"----------\n" +
+			"3 problems (3 errors)\n",
+			true);
+	} finally {
+		if (setting == null) {
+			System.clearProperty("jdt.compiler.parseParallelism");
+		} else {
+			System.setProperty("jdt.compiler.parseParallelism", setting);
+		}
+	}
+}
+public void testCompilerDaemon() throws IOException {
+	Util.createFile(OUTPUT_DIR + File.separator + "X.java",
+		"public class X {\n" +
+		"	String s = 1;\n" +
+		"}");
+	Util.createFile(OUTPUT_DIR + File.separator + "Y.java",
+		"public class Y {\n" +
+		"}");
+	String options = " -1.5 -d none";
+	ByteArrayOutputStream output = new ByteArrayOutputStream();
+	CompilerDaemon daemon = new CompilerDaemon();
+	try {
+		daemon.serve(new BufferedReader(new StringReader(
+				"\"" + OUTPUT_DIR + File.separator + "X.java\"" + options + "\n" +
+				"\"" + OUTPUT_DIR + File.separator + "Y.java\"" + options + "\n" +
+				"\n" +
+				"\"" + OUTPUT_DIR + File.separator + "Z.java\"" + options + "\n")),
+			output);
+	} finally {
+		daemon.shutdown();
+	}
+	String[] results = output.toString().split(CompilerDaemon.EXIT_MARKER);
+	assertEquals("Unexpected results: " + output, 4, results.length);
+	assertTrue("Missing error: " + results[0], results[0].contains("Type mismatch: cannot convert from int to String"));
+	assertTrue("Unexpected status: " + results[1], results[1].startsWith("-1"));
+	assertTrue("Unexpected status: " + results[2], results[2].startsWith("0"));
+	assertTrue("Missing file not reported: " + results[2], results[2].contains("Z.java is missing"));
+	assertTrue("Unexpected status: " + results[3], results[3].startsWith("-1"));
+}
+public void testCompilerDaemonToken() throws Exception {
+	Util.createFile(OUTPUT_DIR + File.separator + "Y.java",
+		"public class Y {\n" +
+		"}");
+	File tokenFile = new File(OUTPUT_DIR, "daemon.token");
+	String token = CompilerDaemon.createToken(tokenFile);
+	assertEquals("Unexpected token file contents", token, new String(Files.readAllBytes(tokenFile.toPath())));
+	try {
+		assertEquals("Unexpected token file permissions", "rw-------",
+				PosixFilePermissions.toString(Files.getPosixFilePermissions(tokenFile.toPath())));
+	} catch (UnsupportedOperationException e) {
+		// not a POSIX file system
+	}
+	String request = "\"" + OUTPUT_DIR + File.separator + "Y.java\" -1.5 -d none\n";
+	CompilerDaemon daemon = new CompilerDaemon();
+	try (ServerSocket serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+		Thread server = new Thread(() -> {
+			try {
+				daemon.serve(serverSocket, token);
+			} catch (IOException e) {
+				// closed by the test
+			}
+		});
+		server.setDaemon(true);
+		server.start();
+		String workingDirectory = System.getProperty("user.dir") + "\n";
+		assertEquals("Request served without the token", null, sendDaemonRequest(serverSocket.getLocalPort(), "wrong\n" + workingDirectory + request));
+		assertEquals("Request served without the token", null, sendDaemonRequest(serverSocket.getLocalPort(), request));
+		assertEquals("Request served without the token", null, sendDaemonRequest(serverSocket.getLocalPort(), token + "0".repeat(10000) + "\n" + workingDirectory + request));
+		assertEquals("Request served from another directory", CompilerDaemon.EXIT_MARKER + "-1", sendDaemonRequest(serverSocket.getLocalPort(), token + "\n" + OUTPUT_DIR + "\n" + request));
+		assertEquals("Unexpected status", CompilerDaemon.EXIT_MARKER + "0", sendDaemonRequest(serverSocket.getLocalPort(), token + "\n" + workingDirectory + request));
+	} finally {
+		daemon.shutdown();
+	}
+}
+private String sendDaemonRequest(int port, String request) throws IOException {
+	try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+		OutputStream output = socket.getOutputStream();
+		output.write(request.getBytes());
+		output.flush();
+		socket.shutdownOutput();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (line.startsWith(CompilerDaemon.EXIT_MARKER))
+				return line;
+		}
+		return null;
+	} catch (SocketException e) {
+		return null; // reset by the daemon, which closed the connection before reading the whole request
+	}
+}
+public void testIncrementalCompilation() throws IOException {
+	String sourceDir = OUTPUT_DIR + File.separator + "src";
+	String binDir = OUTPUT_DIR + File.separator + "bin";
+	Util.createFile(sourceDir + File.separator + "p" + File.separator + "A.java",
+		"package p;\n" +
+		"public class A {\n" +
+		"	public int foo() { return 1; }\n" +
+		"}");
+	Util.createFile(sourceDir + File.separator + "q" + File.separator + "B.java",
+		"package q;\n" +
+		"public class B {\n" +
+		"	int bar() { return new p.A().foo(); }\n" +
+		"}");
+	Util.createFile(sourceDir + File.separator + "q" + File.separator + "C.java",
+		"package q;\n" +
+		"public class C {\n" +
+		"	class Inner {}\n" +
+		"}");
+	String commandLine = "\"" + sourceDir + "\" -1.8 -proc:none -verbose"
+		+ " -incremental \"" + OUTPUT_DIR + File.separator + "state\""
+		+ " -d \"" + binDir + "\"";
+	String output = compileIncrementally(commandLine);
+	assertTrue("Unexpected output: " + output, output.contains("[4 .class files generated]"));
+	output = compileIncrementally(commandLine);
+	assertFalse("Unexpected output: " + output, output.contains("[writing"));
+	// a change of signature recompiles the dependents
+	Util.createFile(sourceDir + File.separator + "p" + File.separator + "A.java",
+		"package p;\n" +
+		"public class A {\n" +
+		"	public long foo() { return 1; }\n" +
+		"}");
+	output = compileIncrementally(commandLine);
+	assertTrue("Unexpected output: " + output, output.contains("B.java (at line 3)"));
+	assertFalse("Unexpected output: " + output, output.contains("C.java"));
+	// the class files of removed types are deleted
+	Util.createFile(sourceDir + File.separator + "q" + File.separator + "C.java",
+		"package q;\n" +
+		"public class C {\n" +
+		"}");
+	output = compileIncrementally(commandLine);
+	assertTrue("Unexpected output: " + output, output.contains("q/C.class"));
+	assertFalse("Class file not deleted", new File(binDir + File.separator + "q" + File.separator + "C$Inner.class").exists());
+}
+private String compileIncrementally(String commandLine) {
+	StringWriter output = new StringWriter();
+	PrintWriter writer = new PrintWriter(output);
+	new Main(writer, writer, false /* systemExit */, null /* options */, null /* progress */).compile(Main.tokenize(commandLine));
+	return output.toString();
+}
+public void testMetrics() throws IOException {
+	String metricsFile = OUTPUT_DIR + File.separator + "metrics.json";
+	this.runConformTest(
+		new String[] {
+			"X.java",
+			"import java.util.*;\n" +
+			"public class X {\n" +
+			"	List<String> list = new ArrayList<>(Arrays.asList(\"a\"));\n" +
+			"	void foo() { int unused; }\n" +
+			"}",
+			"Y.java",
+			"public class Y {\n" +
+			"}",
+		},
+		"\"" + OUTPUT_DIR + File.separator + "X.java\""
+		+ " \"" + OUTPUT_DIR + File.separator + "Y.java\""
+		+ " -1.8 -proc:none -warn:unusedLocal -d none -metrics \"" + metricsFile + "\"",
+		"",
+		"----------\n" +
+		"1. WARNING in ---OUTPUT_DIR_PLACEHOLDER---/X.java (at line 4)\n" +
+		"	void foo() { int unused; }\n" +
+		"	                 ^^^^^^\n" +
+		"The value of the local variable unused is not used\n" +
+		"----------\n" +
+		"1 problem (1 warning)\n",
+		true);
+	String[] records = Util.fileContent(metricsFile).split("\\R");
+	assertEquals("Unexpected records: " + String.join("\n", records), 3, records.length);
+	assertTrue("Unexpected record: " + records[0], records[0].startsWith("{\"type\":\"unit\",\"file\":"));
+	assertTrue("Unexpected record: " + records[0], records[0].contains("X.java\",\"lines\":4,"));
+	assertTrue("Unexpected record: " + records[0], records[0].contains("\"problems\":1,"));
+	assertFalse("Unexpected record: " + records[0], records[0].contains("\"inferences\":0,"));
+	assertTrue("Unexpected record: " + records[1], records[1].contains("Y.java\",\"lines\":1,"));
+	assertTrue("Unexpected record: " + records[2], records[2].startsWith("{\"type\":\"compilation\",\"units\":2,\"lines\":5,"));
+}
 }
\ No newline at end of file
@@ -566,6 +566,32 @@ public class ClassFileReaderTest_1_8 extends AbstractRegressionTest {
 		return sb.toString();
 	}
 
+	public void testSharedMemberNames() throws Exception {
+		String source =
+			"import java.util.List;\n" +
+			"public class #{\n" +
+			"	List<String> names;\n" +
+			"	String names(List<String> names) { return null; }\n" +
+			"}";
+		ClassFileReader x = getInternalClassFile("", "X", "X", source.replace('#', 'X'));
+		ClassFileReader y = getInternalClassFile("", "Y", "Y", source.replace('#', 'Y'));
+
+		// names, descriptors and signatures of the members are decoded once per thread, not once per class file
+		IBinaryField xField = getField(x, "names");
+		IBinaryField yField = getField(y, "names");
+		assertSame(xField.getName(), yField.getName());
+		assertSame(xField.getTypeName(), yField.getTypeName());
+		assertSame(xField.getGenericSignature(), yField.getGenericSignature());
+		IBinaryMethod xMethod = getMethod(x, "names");
+		IBinaryMethod yMethod = getMethod(y, "names");
+		assertSame(xMethod.getSelector(), yMethod.getSelector());
+		assertSame(xMethod.getMethodDescriptor(), yMethod.getMethodDescriptor());
+		assertSame(xMethod.getGenericSignature(), yMethod.getGenericSignature());
+		assertSame(xField.getName(), xMethod.getSelector());
+		assertEquals("Ljava/util/List<Ljava/lang/String;>;", String.valueOf(xField.getGenericSignature()));
+		assertEquals("(Ljava/util/List;)Ljava/lang/String;", String.valueOf(xMethod.getMethodDescriptor()));
+	}
+
 	private IBinaryMethod getMethod(ClassFileReader cfr,String methodname) {
 		IBinaryMethod[] methods = cfr.getMethods();
 		if (methods == null) {
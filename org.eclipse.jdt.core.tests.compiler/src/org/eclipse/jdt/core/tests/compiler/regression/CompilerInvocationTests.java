@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2023 IBM Corporation and others.
+ * Copyright (c) 2006, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -310,6 +310,22 @@ public class CompilerInvocationTests extends AbstractRegressionTest {
 				new DefaultProblemFactory().getLocalizedMessage(0, Integer.MAX_VALUE / 2, new String[] { "Zork" }));
 	}
 
+// the problems created by the default factory format their message when it is asked for
+	public void test010a_problem_messages() {
+		DefaultProblemFactory factory = new DefaultProblemFactory();
+		String[] arguments = new String[] { "X", "Zork", "" };
+		CategorizedProblem problem = factory.createProblem("X.java".toCharArray(), IProblem.UndefinedMethod,
+				arguments, arguments, ProblemSeverities.Error, 0, 3, 1, 1);
+		assertEquals("The method Zork() is undefined for the type X", problem.getMessage());
+		assertSame(problem.getMessage(), problem.getMessage());
+		assertEquals("Pb(100) The method Zork() is undefined for the type X", problem.toString());
+		problem = factory.createProblem("X.java".toCharArray(), 0, new String[] { "Zork" }, Integer.MAX_VALUE / 2,
+				new String[] { "Zork" }, ProblemSeverities.Error, 0, 3, 1, 1);
+		assertEquals(
+				"Unable to retrieve the error message elaboration for elaboration id: 1073741823. Check compiler resources.",
+				problem.getMessage());
+	}
+
 // problem categories - check that categories match expected ones
 // see also discussion in https://bugs.eclipse.org/bugs/show_bug.cgi?id=208383
 public void test011_problem_categories() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2019 IBM Corporation and others.
+ * Copyright (c) 2005, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -4706,6 +4706,38 @@ public void testBug548318_030() {
 			null,
 			true);
 }
+// the flow info of a branch shares the extra bits (past 64 locals) of the flow info it is copied from,
+// assignments in the then branch must not leak into the else branch nor past the if statement
+public void testSharedExtraBits() {
+	StringBuilder locals = new StringBuilder();
+	for (int i = 0; i < 70; i++) {
+		locals.append("int l").append(i).append(" = ").append(i).append("; ");
+	}
+	this.runNegativeTest(
+		new String[] {
+			"X.java",
+			"public class X {\n" +
+			"	int foo(boolean b, Object p) {\n" +
+			"		" + locals + "\n" +
+			"		int v;\n" +
+			"		Object o = p;\n" +
+			"		if (b) {\n" +
+			"			v = l69;\n" +
+			"			o = null;\n" +
+			"		} else {\n" +
+			"			o.hashCode();\n" +
+			"		}\n" +
+			"		return v;\n" +
+			"	}\n" +
+			"}\n"
+		},
+		"----------\n" +
+		"1. ERROR in X.java (at line 12)\n" +
+		"	return v;\n" +
+		"	       ^\n" +
+		"The local variable v may not have been initialized\n" +
+		"----------\n");
+}
 public static Class testClass() {
 	return FlowAnalysisTest.class;
 }
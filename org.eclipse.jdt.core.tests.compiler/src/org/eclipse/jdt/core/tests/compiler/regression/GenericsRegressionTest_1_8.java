@@ -10682,4 +10682,80 @@ public void testBug508834_comment0() {
 			"----------\n",
 			null, true, customOptions);
 	}
+	// overload resolution skips the inference for candidates whose function type has a different arity than an implicitly typed lambda
+	public void testLambdaArityOverloads() {
+		runConformTest(
+			new String[] {
+				"X.java",
+				"""
+				import java.util.function.BiFunction;
+				import java.util.function.Function;
+				import java.util.function.Supplier;
+
+				public class X {
+					static <T, R> R apply(T t, Supplier<? extends R> supplier) {
+						return supplier.get();
+					}
+					static <T, R> R apply(T t, Function<? super T, ? extends R> function) {
+						return function.apply(t);
+					}
+					static <T, R> R apply(T t, BiFunction<? super T, ? super T, ? extends R> function) {
+						return function.apply(t, t);
+					}
+					public static void main(String[] args) {
+						int a = apply("one", s -> s.length());
+						String b = apply("two", (s, t) -> s + t);
+						String c = apply("three", () -> "four");
+						int d = apply(apply("five", s -> s.length()), (i, j) -> apply(i, k -> k + j));
+						System.out.println(a + b + c + d);
+					}
+				}
+				"""
+			},
+			"3twotwofour8");
+	}
+	public void testLambdaArityOverloads_negative() {
+		runNegativeTest(
+			new String[] {
+				"Y.java",
+				"""
+				import java.util.function.BiFunction;
+				import java.util.function.Function;
+
+				public class Y {
+					static <T, R> R apply(T t, Function<? super T, ? extends R> function) {
+						return function.apply(t);
+					}
+					static <T, R> R apply(T t, BiFunction<? super T, ? super T, ? extends R> function) {
+						return function.apply(t, t);
+					}
+					void test() {
+						apply("one", (s, t, u) -> s);
+						apply("two", x -> x, y -> y);
+					}
+				}
+				"""
+			},
+			"----------\n" +
+			"1. ERROR in Y.java (at line 12)\n" +
+			"	apply(\"one\", (s, t, u) -> s);\n" +
+			"	^^^^^\n" +
+			"The method apply(T, Function<? super T,? extends R>) in the type Y is not applicable for the arguments (String, (<no type> s, <no type> t, <no type> u) -> {})\n" +
+			"----------\n" +
+			"2. ERROR in Y.java (at line 12)\n" +
+			"	apply(\"one\", (s, t, u) -> s);\n" +
+			"	             ^^^^^^^^^^^^^^\n" +
+			"Lambda expression's signature does not match the signature of the functional interface method apply(T)\n" +
+			"----------\n" +
+			"3. ERROR in Y.java (at line 13)\n" +
+			"	apply(\"two\", x -> x, y -> y);\n" +
+			"	^^^^^\n" +
+			"The method apply(T, Function<? super T,? extends R>) in the type Y is not applicable for the arguments (String, (<no type> x) -> {}, (<no type> y) -> {})\n" +
+			"----------\n" +
+			"4. ERROR in Y.java (at line 13)\n" +
+			"	apply(\"two\", x -> x, y -> y);\n" +
+			"	                  ^\n" +
+			"Type mismatch: cannot convert from T to R\n" +
+			"----------\n");
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Andrey Loskutov, and others.
+ * Copyright (c) 2022, 2024 Andrey Loskutov, and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,8 @@ package org.eclipse.jdt.core.tests.compiler.util;
 import static org.eclipse.jdt.internal.compiler.util.HashtableOfObject.MAX_ARRAY_SIZE;
 import static org.eclipse.jdt.internal.compiler.util.HashtableOfObject.calculateNewSize;
 
+import java.util.Arrays;
+
 import org.eclipse.jdt.core.tests.junit.extension.TestCase;
 import org.eclipse.jdt.internal.compiler.util.HashtableOfObject;
 import org.junit.Test;
@@ -223,4 +225,32 @@ public class HashtableOfObjectTest extends TestCase {
 
 		System.gc();
 	}
+
+	@Test
+	public void testRehash() {
+		HashtableOfObject table = new HashtableOfObject(1);
+		int N = 1000;
+		for (int i = 0; i < N; i++) {
+			String key = "k" + i;
+			assertNull(table.get(key.toCharArray()));
+			table.put(key.toCharArray(), key);
+			if (i % 2 == 0) {
+				table.put(key.toCharArray(), key + '\'');
+			}
+		}
+		assertEquals(N, table.size());
+		for (int i = 0; i < N; i++) {
+			String key = "k" + i;
+			assertTrue(table.containsKey(key.toCharArray()));
+			assertEquals(i % 2 == 0 ? key + '\'' : key, table.get(key.toCharArray()));
+			assertFalse(table.containsKey(("x" + i).toCharArray()));
+		}
+		// equal hash codes, different keys
+		assertEquals(Arrays.hashCode("Aa".toCharArray()), Arrays.hashCode("BB".toCharArray()));
+		table.put("Aa".toCharArray(), "Aa");
+		assertNull(table.get("BB".toCharArray()));
+		table.putUnsafely("BB".toCharArray(), "BB");
+		assertEquals("Aa", table.get("Aa".toCharArray()));
+		assertEquals("BB", table.get("BB".toCharArray()));
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Andrey Loskutov, and others.
+ * Copyright (c) 2022, 2024 Andrey Loskutov, and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,7 +17,9 @@ import java.io.File;
 import java.nio.file.Paths;
 
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.tests.junit.extension.TestCase;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.util.JRTUtil;
 import org.junit.Before;
@@ -71,6 +73,20 @@ public class JrtUtilTest extends TestCase {
 		assertSame(jrtSystem, jrtSystem3);
 	}
 
+	@Test
+	public void testSharedClassfile() throws Exception {
+		File jrt = new File(this.javaHome, "lib" + File.separator + JRTUtil.JRT_FS_JAR);
+		ClassFileReader first = JRTUtil.getClassfile(jrt, "java/util/HashMap.class", "java.base");
+		ClassFileReader second = JRTUtil.getClassfile(jrt, "java/util/HashMap.class", "java.base");
+		ClassFileReader third = JRTUtil.getClassfile(jrt, "java/util/HashMap.class", "java.base");
+		// a class file read again is decoded once and shared by the later readers
+		assertSame(second, third);
+		assertTrue(CharOperation.equals(first.getName(), third.getName()));
+		assertEquals(first.getMethods().length, third.getMethods().length);
+		assertEquals(first.getFields().length, third.getFields().length);
+		assertEquals("java.base", String.valueOf(third.getModule()));
+	}
+
 	private static int getMajorVersionSegment(String releaseVersion) {
 		int dot = releaseVersion.indexOf('.');
 		if (dot > 0) {
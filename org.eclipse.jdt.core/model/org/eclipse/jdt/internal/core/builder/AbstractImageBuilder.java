@@ -584,6 +584,8 @@ protected Compiler newCompiler() {
 	// temporary code to allow the compiler to revert to a single thread
 	String setting = System.getProperty("jdt.compiler.useSingleThread"); //$NON-NLS-1$
 	newCompiler.useSingleThread = setting != null && setting.equals("true"); //$NON-NLS-1$
+	// experimental code to parse the method bodies of all units concurrently before processing them one at a time
+	newCompiler.parseParallelism = Integer.getInteger("jdt.compiler.parseParallelism", 1).intValue(); //$NON-NLS-1$
 
 	// enable the compiler reference info support
 	options.produceReferenceInfo = true;
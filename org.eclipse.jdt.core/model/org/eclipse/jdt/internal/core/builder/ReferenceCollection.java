@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2024 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -161,11 +161,11 @@ private static <T> boolean sortedArrayContains(T[] array, T element, Comparator<
 }
 
 private boolean includesSimpleName(char[][] simpleNames) {
-	return intersects(simpleNames, this.simpleNameReferences, SortedCharArrays.CHAR_ARR_COMPARATOR);
+	return SortedCharArrays.intersects(simpleNames, this.simpleNameReferences, SortedCharArrays.CHAR_ARR_COMPARATOR);
 }
 
 private boolean includesQualifiedName(char[][][] qualifiedNames) {
-	if (intersects(qualifiedNames, this.qualifiedNameReferences, SortedCharArrays.CHAR_CHAR_ARR_COMPARATOR)) {
+	if (SortedCharArrays.intersects(qualifiedNames, this.qualifiedNameReferences, SortedCharArrays.CHAR_CHAR_ARR_COMPARATOR)) {
 		return true;
 	}
 	char[][] maybeSimpleName;
@@ -178,53 +178,7 @@ private boolean includesQualifiedName(char[][][] qualifiedNames) {
 }
 
 private boolean includesRootName(char[][] rootNames) {
-	return intersects(rootNames, this.rootReferences, SortedCharArrays.CHAR_ARR_COMPARATOR);
-}
-
-private static <T> boolean intersects(T[] firstSortedArr, T[] secondSortedArr, Comparator<? super T> comparator) {
-	/*
-	 * Both arrays are sorted, so we can walk them in pairs.
-	 * Using binary search for the remaining array elements to figure the next
-	 * interesting index can greatly reduce the runtime cost for arrays that do
-	 * have more than a few elements.
-	 */
-	for(int i = 0, l = firstSortedArr.length, j = 0, k = secondSortedArr.length; i < l && j < k;) {
-		T firstElement = firstSortedArr[i];
-		T secondElement = secondSortedArr[j];
-		int compare = comparator.compare(firstElement, secondElement);
-		if (compare == 0) {
-			return true;
-		} else if (compare < 0) {
-			/*
-			 * left side is smaller than the right side, but not exactly the right side.
-			 * Take the next element from the left and proceed.
-			 *
-			 * If the number of remaining elements in the first array is sufficiently big,
-			 * attempt a binary search for the second element to possibly skip a few elements.
-			 */
-			i++;
-			if (l - i > SortedCharArrays.BINARY_SEARCH_THRESHOLD) {
-				i = Arrays.binarySearch(firstSortedArr, i, l, secondElement, comparator);
-				if (i >= 0) {
-					return true;
-				}
-				i = -(i + 1);
-			}
-		} else {
-			/*
-			 * the inverse logic is applied here
-			 */
-			j++;
-			if (k - j > SortedCharArrays.BINARY_SEARCH_THRESHOLD) {
-				j = Arrays.binarySearch(secondSortedArr, j, k, firstElement, comparator);
-				if (j >= 0) {
-					return true;
-				}
-				j = -(j + 1);
-			}
-		}
-	}
-	return false;
+	return SortedCharArrays.intersects(rootNames, this.rootReferences, SortedCharArrays.CHAR_ARR_COMPARATOR);
 }
 
 private static char[][] ensureContainedInSortedOrder(char[][] sortedArray, char[] entry) {
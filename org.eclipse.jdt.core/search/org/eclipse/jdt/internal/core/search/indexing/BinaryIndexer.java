@@ -857,7 +857,7 @@ public class BinaryIndexer extends AbstractIndexer implements SuffixConstants {
 				for (int i = 0, max = fields.length; i < max; i++) {
 					FieldInfo field = fields[i];
 					char[] fieldName = field.getName();
-					char[] fieldType = decodeFieldType(replace('/', '.', field.getTypeName()));
+					char[] fieldType = decodeFieldType(CharOperation.replaceOnCopy(field.getTypeName(), '/', '.')); // the descriptor is shared, see ClassFileStruct#sharedUtf8At
 					addFieldDeclaration(fieldType, fieldName);
 					// look for references in field annotations
 					annotations = field.getAnnotations();